@@ -0,0 +1,31 @@
+package org.task_manager.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Databases created before migrations were introduced already hold the V1 schema,
+     * so they are baselined at V1 and only receive later migrations
+     */
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+
+    /**
+     * The migrations own the schema: Hibernate only checks that the mappings match it, whatever
+     * spring.jpa.hibernate.ddl-auto says, so drift fails startup instead of being patched behind them
+     */
+    @Bean
+    public HibernatePropertiesCustomizer validateSchemaAgainstMigrations() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, "validate");
+    }
+}
@@ -0,0 +1,77 @@
+package org.task_manager.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * In-process second-level and query cache backed by Caffeine through JCache.
+ * Every region is created here with its own bound; Hibernate fails fast on a region
+ * that is not listed rather than creating an unbounded one.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String ROLES_REGION = "roles";
+    public static final String USERS_REGION = "users";
+    public static final String USER_SETTINGS_REGION = "user-settings";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.users.max-entries:10000}") long maxUsers,
+            @Value("${app.cache.ttl:PT10M}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // Cache managers are shared per URI across the JVM; a URI of its own keeps a second application
+        // context, such as another test context or a devtools restart, from finding these regions taken
+        URI uri = URI.create("hibernate-" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        // Roles are read-only reference data
+        cacheManager.createCache(ROLES_REGION, region(100, null));
+        // Writes go through Hibernate and update these regions; the TTL only bounds out-of-band edits
+        cacheManager.createCache(USERS_REGION, region(maxUsers, ttl));
+        cacheManager.createCache(USER_SETTINGS_REGION, region(maxUsers, ttl));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(maxUsers, ttl));
+        // Hibernate requires update timestamps to outlive every cached query result
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, region(1000, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Needed for the per-region hit and miss counts
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
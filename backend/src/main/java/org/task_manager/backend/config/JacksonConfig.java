@@ -3,10 +3,14 @@ package org.task_manager.backend.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -16,8 +20,31 @@ public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        return configure(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    /**
+     * application/cbor, for clients that ask for it in Accept. Same model as JSON without the text overhead.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(configure(Jackson2ObjectMapperBuilder.cbor().build()));
+    }
+
+    /**
+     * application/x-jackson-smile. Smile back-references repeated field names and short strings,
+     * which suits lists of rows with the same shape.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(
+                configure(Jackson2ObjectMapperBuilder.smile().factory(smileFactory).build()));
+    }
 
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
         // Add the JavaTimeModule for LocalDate/LocalDateTime support
         objectMapper.registerModule(new JavaTimeModule());
 
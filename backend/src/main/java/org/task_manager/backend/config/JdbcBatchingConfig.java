@@ -0,0 +1,60 @@
+package org.task_manager.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Send inserts, updates and deletes as JDBC batches.
+ * Entities with pooled sequence ids know their id before the INSERT, which is what lets
+ * Hibernate group their inserts; IDENTITY ids force one round trip per row.
+ */
+@Configuration
+public class JdbcBatchingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingProperties(
+            @Value("${app.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            // Group statements per table so a flush of mixed entities still batches
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            // The sequence tables hold the next free id of each block (see V3__pooled_id_sequences.sql)
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+
+    /**
+     * Without rewriteBatchedStatements, Connector/J still sends a batch one statement at a time,
+     * and without useCursorFetch it ignores fetch sizes and buffers every result set whole,
+     * so the streamed report and task list queries would not stream
+     */
+    @Bean
+    public static BeanPostProcessor mysqlDriverProperties() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    setDefault(dataSource, "rewriteBatchedStatements", "true");
+                    // Only statements given a fetch size read through a cursor; the rest still read in one go
+                    setDefault(dataSource, "useCursorFetch", "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void setDefault(HikariDataSource dataSource, String property, String value) {
+        if (!dataSource.getDataSourceProperties().containsKey(property)
+                && !dataSource.getJdbcUrl().contains(property + "=")) {
+            dataSource.addDataSourceProperty(property, value);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.task_manager.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs EXPLAIN on the hot repository queries once the application has started and
+ * logs every query whose plan falls back to a full table scan.
+ * The statements mirror the JPQL finders with representative literal parameters.
+ * Only MySQL plans are checked; other databases are skipped.
+ */
+@Slf4j
+@Component
+public class QueryPlanVerifier {
+
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("TaskRepository.findByAssignedToIdAndStatus",
+                "SELECT * FROM tasks WHERE user_id = 1 AND status = 'TODO'");
+        HOT_QUERIES.put("TaskRepository.findByAssignedToIdOrderByDueDateAsc",
+                "SELECT * FROM tasks WHERE user_id = 1 ORDER BY due_date");
+        HOT_QUERIES.put("TaskRepository.findByAssignedToIdAndCreationDateBetween",
+                "SELECT * FROM tasks WHERE user_id = 1 AND creation_date BETWEEN NOW() - INTERVAL 30 DAY AND NOW()");
+        HOT_QUERIES.put("TaskRepository.findOverdueTasks",
+                "SELECT * FROM tasks WHERE due_date < NOW() AND status <> 'DONE'");
+        HOT_QUERIES.put("TaskRepository.findByPriorityOrderByDueDateAsc",
+                "SELECT * FROM tasks WHERE priority = 'HIGH' ORDER BY due_date");
+        HOT_QUERIES.put("TaskRepository.countByStatusAndPriority",
+                "SELECT status, priority, COUNT(*), SUM(CASE WHEN due_date < NOW() AND status <> 'DONE' THEN 1 ELSE 0 END), " +
+                "SUM(CASE WHEN creation_date >= NOW() - INTERVAL 7 DAY THEN 1 ELSE 0 END) FROM tasks GROUP BY status, priority");
+        HOT_QUERIES.put("TaskRepository.countOpenTasksByDueDateFrom",
+                "SELECT due_date, COUNT(*) FROM tasks WHERE due_date >= NOW() AND status <> 'DONE' GROUP BY due_date");
+        HOT_QUERIES.put("TaskRepository.findActivitySince",
+                "SELECT user_id, creation_date, updated_at, started_at, completed_at FROM tasks WHERE user_id IS NOT NULL " +
+                "AND (creation_date >= NOW() - INTERVAL 90 DAY OR updated_at >= NOW() - INTERVAL 90 DAY " +
+                "OR started_at >= NOW() - INTERVAL 90 DAY OR completed_at >= NOW() - INTERVAL 90 DAY)");
+        HOT_QUERIES.put("TaskBrowseRepository.browse (creationDate)",
+                "SELECT * FROM tasks ORDER BY creation_date DESC, id DESC LIMIT 51");
+        HOT_QUERIES.put("TaskBrowseRepository.browse (dueDate, status)",
+                "SELECT * FROM tasks WHERE status = 'TODO' AND due_date >= NOW() ORDER BY due_date, id LIMIT 51");
+        HOT_QUERIES.put("ActivityLogRepository.findRecentActivityLogs",
+                "SELECT * FROM activity_logs ORDER BY timestamp DESC LIMIT 50");
+        HOT_QUERIES.put("ActivityLogRepository.findByUserIdOrderByTimestampDesc",
+                "SELECT * FROM activity_logs WHERE user_id = 1 ORDER BY timestamp DESC");
+        HOT_QUERIES.put("ActivityLogRepository.findLoginHistoryByUserId",
+                "SELECT * FROM activity_logs WHERE user_id = 1 AND action = 'LOGIN' ORDER BY timestamp DESC");
+        HOT_QUERIES.put("ActivityLogRepository.findByTimestampBetween",
+                "SELECT * FROM activity_logs WHERE timestamp BETWEEN NOW() - INTERVAL 7 DAY AND NOW()");
+        HOT_QUERIES.put("ActivityLogRepository.findFailedActivities",
+                "SELECT * FROM activity_logs WHERE status = 'FAILURE'");
+        HOT_QUERIES.put("ReportRepository.findPendingReports",
+                "SELECT * FROM reports WHERE status = 'PENDING' ORDER BY generated_at");
+        HOT_QUERIES.put("ReportRepository.findMostRecentReportByType",
+                "SELECT * FROM reports WHERE report_type = 'TASK_REPORT' ORDER BY generated_at DESC LIMIT 1");
+        HOT_QUERIES.put("ReportRepository.findActiveReportsByUserId",
+                "SELECT * FROM reports WHERE generated_by_user_id = 1 AND (expires_at IS NULL OR expires_at > NOW()) " +
+                "ORDER BY generated_at DESC");
+        HOT_QUERIES.put("ReportRepository.findReportsExpiringBefore",
+                "SELECT * FROM reports WHERE expires_at IS NOT NULL AND expires_at < NOW() + INTERVAL 7 DAY AND expires_at > NOW()");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public QueryPlanVerifier(JdbcTemplate jdbcTemplate,
+                             @Value("${app.db.verify-query-plans:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (product == null || !product.toLowerCase().contains("mysql")) {
+            log.debug("Skipping query plan verification on {}", product);
+            return;
+        }
+
+        List<String> missingIndexes = new ArrayList<>();
+        HOT_QUERIES.forEach((name, sql) -> {
+            try {
+                for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+                    if (!"ALL".equals(row.get("type"))) {
+                        continue;
+                    }
+                    Object possibleKeys = row.get("possible_keys");
+                    if (possibleKeys == null) {
+                        missingIndexes.add(name);
+                        log.warn("Full scan of {} in {}: no usable index", row.get("table"), name);
+                    } else {
+                        // Usually a small table where scanning is cheaper than an index lookup
+                        log.info("Full scan of {} in {} (~{} rows) although {} could be used",
+                                row.get("table"), name, row.get("rows"), possibleKeys);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Could not explain {}: {}", name, e.getMessage());
+            }
+        });
+
+        if (missingIndexes.isEmpty()) {
+            log.info("Query plans verified: {} hot queries have usable indexes", HOT_QUERIES.size());
+        } else {
+            log.warn("{} of {} hot queries have no usable index: {}",
+                    missingIndexes.size(), HOT_QUERIES.size(), missingIndexes);
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package org.task_manager.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
 
+    /**
+     * Configure thread pool for @Scheduled methods, so the nightly jobs and the dashboard stream tick
+     * do not wait on each other as they would on Spring Boot's single-threaded default
+     */
+    @Bean(name = "taskScheduler")
+    public TaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:3}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
     /**
      * Configure thread pool for scheduled tasks
      */
@@ -52,4 +70,32 @@ public class SchedulerConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Configure thread pool for dashboard stream writes; each subscriber has at most one write queued
+     */
+    @Bean(name = "dashboardStreamExecutor")
+    public Executor dashboardStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("dashboard-stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Configure fork/join pool for analytics aggregated across users; 0 uses one thread per processor
+     */
+    @Bean(name = "analyticsPool", destroyMethod = "shutdown")
+    public ForkJoinPool analyticsPool(@Value("${app.analytics.parallelism:0}") int parallelism) {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("analytics-worker-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                threadFactory, null, false);
+    }
 }
@@ -1,19 +1,35 @@
 package org.task_manager.backend.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.task_manager.backend.dto.AdminTaskDto;
 import org.task_manager.backend.dto.CreateUserDto;
+import org.task_manager.backend.dto.CursorPageDto;
 import org.task_manager.backend.dto.UpdateUserDto;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
 import org.task_manager.backend.service.AdminService;
+import org.task_manager.backend.util.AcceptEncodingUtil;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -39,6 +55,122 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/stats/cache")
+    public ResponseEntity<?> getDashboardStatsCacheMetrics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", adminService.getDashboardStatsCacheMetrics());
+        response.put("message", "Dashboard stats cache metrics retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats/analytics-cache")
+    public ResponseEntity<?> getUserAnalyticsCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", adminService.getUserAnalyticsCacheStats());
+        response.put("message", "User analytics cache statistics retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats/entity-cache")
+    public ResponseEntity<?> getEntityCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", adminService.getEntityCacheStats());
+        response.put("message", "Entity cache statistics retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboardStats(@RequestParam(required = false) Long intervalMs) {
+        return adminService.subscribeToDashboardStats(intervalMs);
+    }
+
+    @GetMapping("/search-index")
+    public ResponseEntity<?> getSearchIndexStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", adminService.getSearchIndexStats());
+        response.put("message", "Search index statistics retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/user-task-index")
+    public ResponseEntity<?> getUserTaskIndexStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", adminService.getUserTaskIndexStats());
+        response.put("message", "User task index statistics retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<?> rebuildSearchIndex() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", adminService.rebuildSearchIndex());
+            response.put("message", "Search index rebuilt successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to rebuild search index");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    @GetMapping("/analytics/departments")
+    public ResponseEntity<?> getDepartmentAnalytics(
+            @RequestParam(defaultValue = "7days") String range,
+            @RequestParam(defaultValue = "department") String groupBy) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", adminService.getDepartmentAnalytics(range, groupBy));
+            response.put("message", "Department analytics retrieved successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to fetch department analytics");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    @PostMapping("/analytics/daily-stats/rebuild")
+    public ResponseEntity<?> rebuildDailyStats() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", adminService.rebuildDailyStats());
+            response.put("message", "User daily stats rebuilt successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to rebuild user daily stats");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    @GetMapping("/activity")
+    public ResponseEntity<?> getUserActivity(@RequestParam(defaultValue = "7") int days) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", adminService.getUserActivity(days));
+            response.put("message", "User activity retrieved successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to fetch user activity");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     @GetMapping("/users")
     public ResponseEntity<?> getAllUsers() {
         Map<String, Object> response = new HashMap<>();
@@ -55,13 +187,50 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/users/paged")
+    public ResponseEntity<?> getUsersPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String department) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", adminService.getUsersPage(page, size, sortBy, sortDir, role, department));
+            response.put("message", "Users retrieved successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to fetch users");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     @GetMapping("/tasks")
-    public ResponseEntity<?> getAllTasks() {
+    public ResponseEntity<?> getAllTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(defaultValue = "creationDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         Map<String, Object> response = new HashMap<>();
         try {
+            CursorPageDto<AdminTaskDto> page = adminService.browseTasks(status, priority, assigneeId, department,
+                    dueFrom, dueTo, sortBy, sortDir, cursor, size);
             response.put("success", true);
-            response.put("data", adminService.getAllTasks());
-            response.put("message", "All tasks retrieved successfully");
+            response.put("data", page.getItems());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("prevCursor", page.getPrevCursor());
+            response.put("hasMore", page.isHasMore());
+            response.put("message", "Tasks retrieved successfully");
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             response.put("success", false);
@@ -82,12 +251,27 @@ public class AdminController {
     }
 
     @GetMapping("/download-report")
-    public ResponseEntity<byte[]> downloadReport() {
-        String csv = adminService.generateCsvReport();
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=task_report.csv")
-                .contentType(MediaType.parseMediaType("text/csv"))
-                .body(csv.getBytes());
+    public void downloadReport(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        boolean gzip = AcceptEncodingUtil.acceptsGzip(acceptEncoding);
+
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=task_report.csv");
+        // Either body may be cached, so shared caches must key it by the request's codings
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream body = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192) : response.getOutputStream();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), 8192)) {
+            adminService.writeCsvReport(writer, status, priority, from, to);
+        }
     }
 
     @PostMapping("/users")
@@ -133,10 +317,19 @@ public class AdminController {
     }
 
     @DeleteMapping("/users/{id}")
-    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<?> deleteUser(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long reassignTo,
+            @RequestParam(defaultValue = "false") boolean background) {
         Map<String, Object> response = new HashMap<>();
         try {
-            adminService.deleteUser(id);
+            if (background) {
+                response.put("success", true);
+                response.put("data", adminService.startUserDeletion(id, reassignTo));
+                response.put("message", "User deletion started");
+                return ResponseEntity.accepted().body(response);
+            }
+            adminService.deleteUser(id, reassignTo);
             response.put("success", true);
             response.put("message", "User deleted successfully");
             return ResponseEntity.ok(response);
@@ -153,6 +346,21 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/users/deletions/{jobId}")
+    public ResponseEntity<?> getUserDeletionJob(@PathVariable String jobId) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", adminService.getUserDeletionJob(jobId));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to fetch deletion progress");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     @GetMapping("/settings")
     public ResponseEntity<?> getSettings() {
         Map<String, Object> response = new HashMap<>();
@@ -1,16 +1,32 @@
 package org.task_manager.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.task_manager.backend.dto.CursorPageDto;
+import org.task_manager.backend.dto.TaskBatchRequest;
+import org.task_manager.backend.dto.TaskBatchResponse;
 import org.task_manager.backend.dto.TaskRequest;
 import org.task_manager.backend.dto.TaskResponse;
 import org.task_manager.backend.model.User;
+import org.task_manager.backend.repository.projection.TaskVersion;
 import org.task_manager.backend.security.SecurityService;
+import org.task_manager.backend.service.TaskBatchService;
 import org.task_manager.backend.service.TaskService;
+import org.task_manager.backend.util.ETagUtil;
+import org.task_manager.backend.util.NdjsonWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -20,6 +36,12 @@ public class TaskController {
     
     @Autowired
     private SecurityService securityService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
     
 //GET :Retrive All tasks
     @GetMapping
@@ -30,18 +52,83 @@ public class TaskController {
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
-            @RequestParam(required = false) String search
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String due,
+            WebRequest webRequest
 
 
             ){
         // Get current authenticated user
         User currentUser = securityService.getCurrentUser();
         Long userId = (currentUser != null) ? currentUser.getId() : null;
-        
+
+        // Unchanged filter set: answer 304 before reading or serializing the page
+        String etag = ETagUtil.forTaskSet(taskService.getTaskSetVersion(userId, search, status, priority, due));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
         // Pass userId to service for filtering
-        Page <TaskResponse> tasks = taskService.getAllTasks(userId, search, status, priority, page, size, sortBy, sortDir);
+        Page <TaskResponse> tasks = taskService.getAllTasks(userId, search, status, priority, due, page, size, sortBy, sortDir);
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(tasks);
+
+    }
+    //GET :Every matching task as newline-delimited JSON, written while the rows are read (Accept: application/x-ndjson)
+    @GetMapping(produces = NdjsonWriter.MEDIA_TYPE)
+    public void streamTasks(
+            @RequestParam(defaultValue = "dueDate") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String due,
+            HttpServletResponse response
+            ) throws IOException {
+        User currentUser = securityService.getCurrentUser();
+        Long userId = (currentUser != null) ? currentUser.getId() : null;
+
+        response.setContentType(NdjsonWriter.MEDIA_TYPE);
+        try (NdjsonWriter ndjson = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            taskService.streamTasks(userId, search, status, priority, due, sortBy, sortDir, task -> {
+                try {
+                    ndjson.write(task);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+    //GET :Scroll tasks with a cursor instead of page numbers (exact total on the first page with withTotal=true)
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDto<TaskResponse>> scrollTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "dueDate") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String due,
+            @RequestParam(defaultValue = "false") boolean withTotal
+            ){
+        User currentUser = securityService.getCurrentUser();
+        Long userId = (currentUser != null) ? currentUser.getId() : null;
+
+        CursorPageDto<TaskResponse> tasks = taskService.scrollTasks(userId, search, status, priority, due, cursor, size, sortBy, sortDir, withTotal);
         return ResponseEntity.ok(tasks);
+    }
+    //GET :Full-text search, best match first
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(defaultValue = "20") int limit
+            ){
+        User currentUser = securityService.getCurrentUser();
+        Long userId = (currentUser != null) ? currentUser.getId() : null;
 
+        return ResponseEntity.ok(taskService.searchTasks(userId, q, status, priority, limit));
     }
     //POST creat new task
     @PostMapping
@@ -49,12 +136,24 @@ public class TaskController {
         TaskResponse createdTask = taskService.createTask(taskRequest);
         return new  ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
+    //POST :Create, update and delete many tasks, with a result per operation
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> applyBatch(@Valid @RequestBody TaskBatchRequest batchRequest){
+        return ResponseEntity.ok(taskBatchService.apply(batchRequest.getOperations()));
+    }
     //PUT :Update task
 
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest taskRequest){
-        TaskResponse updatedTask = taskService.updateTask(id, taskRequest);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest taskRequest,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        TaskResponse updatedTask = taskService.updateTask(id, taskRequest, ifMatch);
+        MediaType representation = ETagUtil.taskRepresentation(accept);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.forTask(updatedTask.getId(),
+                        new TaskVersion(updatedTask.getVersion(), updatedTask.getAssigneeUpdatedAt()), representation))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(updatedTask);
 
     }
     //Delete Task
@@ -66,9 +165,22 @@ public class TaskController {
 
     }
     @GetMapping("/{id}")
-        public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id){
+        public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        // Version lookup first; the task is only read and serialized when it or its assignee changed.
+        // JSON, CBOR and Smile bodies differ, so each representation gets its own strong tag
+        MediaType representation = ETagUtil.taskRepresentation(accept);
+        String currentTag = ETagUtil.forTask(id, taskService.getTaskVersion(id), representation);
+        if (webRequest.checkNotModified(currentTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        // A change between the two reads leaves the body newer than its tag, which only costs a full
+        // response on the next request, never a stale 304
         TaskResponse taskResponse = taskService.getTaskById(id);
-        return ResponseEntity.ok(taskResponse);
+        return ResponseEntity.ok()
+                .eTag(currentTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(taskResponse);
 
     }
 
@@ -21,7 +21,7 @@ public class UserAnalyticsController {
             @RequestParam(defaultValue = "7days") String range) {
         
         try {
-            UserAnalyticsDetailDto analyticsData = userAnalyticsService.getUserAnalytics(userId);
+            UserAnalyticsDetailDto analyticsData = userAnalyticsService.getUserAnalytics(userId, range);
             return ResponseEntity.ok(analyticsData);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -0,0 +1,25 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminTaskDto {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private Priority priority;
+    private LocalDateTime dueDate;
+    private LocalDateTime creationDate;
+    private LocalDateTime updatedAt;
+    private Long assignedToId;
+    private String assignedToUsername;
+    private String assignedToDepartment;
+}
@@ -17,6 +17,8 @@ public class AdminUserDto {
     private String email;
     private String role;
     private Long tasksCompleted;
+    private Long totalTasks;
+    private String department;
     private LocalDateTime createdAt;
 
     public AdminUserDto(Long id, String username, String email, String role, Long tasksCompleted, LocalDateTime createdAt) {
@@ -27,4 +29,11 @@ public class AdminUserDto {
         this.tasksCompleted = tasksCompleted;
         this.createdAt = createdAt;
     }
+
+    public AdminUserDto(Long id, String username, String email, String role, Long tasksCompleted,
+                        Long totalTasks, String department, LocalDateTime createdAt) {
+        this(id, username, email, role, tasksCompleted, createdAt);
+        this.totalTasks = totalTasks;
+        this.department = department;
+    }
 }
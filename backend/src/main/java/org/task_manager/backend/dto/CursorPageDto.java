@@ -0,0 +1,18 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor; // null on the last page
+    private String prevCursor; // null on the first page
+    private boolean hasMore;
+    private Long total; // exact count, only on the first page and only when requested
+}
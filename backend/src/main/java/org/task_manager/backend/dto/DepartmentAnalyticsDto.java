@@ -0,0 +1,32 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentAnalyticsDto {
+
+    private String department;
+    private Integer users;
+
+    // Open tasks and tasks completed in the range, counted as in the user analytics
+    private Integer totalTasks;
+    private Integer completedTasks;
+    private Integer inProgressTasks;
+    private Integer pendingTasks;
+    private Integer overdueTasks;
+
+    // Rates in percent
+    private Double completionRate;
+    private Double onTimeRate;
+
+    // Overdue tasks per member
+    private Double overdueLoad;
+
+    // Tasks completed per week of the range, in total and per member
+    private Double throughputPerWeek;
+    private Double throughputPerUserPerWeek;
+}
@@ -0,0 +1,29 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentAnalyticsReportDto {
+
+    // department or designation
+    private String groupBy;
+    private List<DepartmentAnalyticsDto> departments;
+
+    // How the users were split across the fork/join pool
+    private Integer partitions;
+    private Integer parallelism;
+
+    private LocalDateTime generatedAt;
+
+    // Time range info
+    private String timeRange;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+}
@@ -0,0 +1,16 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResult {
+    private int index;
+    private String op;
+    private Long id; // the new id for creates
+    private String status; // OK, FAILED
+    private String error;
+}
@@ -0,0 +1,14 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchOperation {
+    private String op; // CREATE, UPDATE or DELETE
+    private Long id; // UPDATE and DELETE only
+    private TaskRequest task; // CREATE and UPDATE only
+}
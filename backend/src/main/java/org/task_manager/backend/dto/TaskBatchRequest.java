@@ -0,0 +1,20 @@
+package org.task_manager.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    // Operations are validated one by one so a bad item fails alone instead of rejecting the batch
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 10000, message = "A batch cannot exceed 10000 operations")
+    private List<TaskBatchOperation> operations;
+}
@@ -0,0 +1,16 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemResult> results; // same order as the operations
+}
@@ -1,5 +1,7 @@
 package org.task_manager.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 
 public class TaskResponse {
@@ -14,6 +16,11 @@ public class TaskResponse {
     private Long assignedToId;
     private String assignedToUsername;
 
+    private Long version; // also sent as the ETag
+
+    @JsonIgnore
+    private LocalDateTime assigneeUpdatedAt; // only part of the ETag, set when mapped from the entity
+
     public Long getId() {
         return id;
     }
@@ -85,4 +92,20 @@ public class TaskResponse {
     public void setAssignedToUsername(String assignedToUsername) {
         this.assignedToUsername = assignedToUsername;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getAssigneeUpdatedAt() {
+        return assigneeUpdatedAt;
+    }
+
+    public void setAssigneeUpdatedAt(LocalDateTime assigneeUpdatedAt) {
+        this.assigneeUpdatedAt = assigneeUpdatedAt;
+    }
 }
@@ -0,0 +1,22 @@
+package org.task_manager.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDeletionJobDto {
+    private String jobId;
+    private Long userId;
+    private Long targetUserId;
+    private String status; // RUNNING, COMPLETED, FAILED
+    private Long totalTasks;
+    private Long processedTasks;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
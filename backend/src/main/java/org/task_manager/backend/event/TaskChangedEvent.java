@@ -0,0 +1,38 @@
+package org.task_manager.backend.event;
+
+/**
+ * Published by the task service whenever a task is created, updated or deleted.
+ * Listeners should use {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param before state before the change, or null for a create
+ * @param after  state after the change, or null for a delete
+ */
+public record TaskChangedEvent(TaskSnapshot before, TaskSnapshot after) {
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(before, null);
+    }
+
+    public boolean isCreate() {
+        return before == null;
+    }
+
+    public boolean isDelete() {
+        return after == null;
+    }
+
+    /**
+     * Id of the affected task (present for every kind of change)
+     */
+    public Long taskId() {
+        return after != null ? after.id() : before.id();
+    }
+}
@@ -0,0 +1,51 @@
+package org.task_manager.backend.event;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.Task;
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the task columns that in-memory aggregates and the search index care about.
+ * Taken before and after a mutation so listeners never touch managed entities.
+ */
+public record TaskSnapshot(
+        Long id,
+        Long assignedToId,
+        TaskStatus status,
+        Priority priority,
+        LocalDateTime dueDate,
+        LocalDateTime creationDate,
+        LocalDateTime updatedAt,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        String title,
+        String description,
+        Long version
+) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreationDate(),
+                task.getUpdatedAt(),
+                task.getStartedAt(),
+                task.getCompletedAt(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getVersion()
+        );
+    }
+
+    /**
+     * Check if the task counts as open (not completed)
+     */
+    public boolean isOpen() {
+        return status != TaskStatus.DONE;
+    }
+}
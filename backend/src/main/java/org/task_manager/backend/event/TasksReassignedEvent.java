@@ -0,0 +1,13 @@
+package org.task_manager.backend.event;
+
+/**
+ * Published after a bulk statement moved every task of one user, which bypasses
+ * the per-task {@link TaskChangedEvent}. Listeners should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param fromUserId user the tasks were taken from
+ * @param toUserId   user the tasks were handed to, or null when they were unassigned
+ * @param taskCount  number of tasks moved
+ */
+public record TasksReassignedEvent(Long fromUserId, Long toUserId, long taskCount) {
+}
@@ -0,0 +1,11 @@
+package org.task_manager.backend.exception;
+
+/**
+ * Exception thrown when a conditional write no longer matches the stored resource
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String resourceName, Long id) {
+        super(String.format("%s %s was modified by someone else; reload it and try again", resourceName, id));
+    }
+}
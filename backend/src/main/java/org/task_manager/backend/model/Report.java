@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class Report {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_seq")
+    @SequenceGenerator(name = "report_seq", sequenceName = "report_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -1,7 +1,15 @@
 package org.task_manager.backend.model;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.task_manager.backend.config.HibernateCacheConfig;
 
+// Roles are only ever inserted, so they can be cached read-only
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.ROLES_REGION)
 @Table(name = "roles")
 public class Role {
 
@@ -5,9 +5,11 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = "Task.reminder", attributeNodes = @NamedAttributeNode("assignedTo"))
 @Table(name = "tasks")
 @Data
 @NoArgsConstructor
@@ -15,7 +17,8 @@ import java.time.LocalDateTime;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -32,9 +35,10 @@ public class Task {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnoreProperties({"tasks", "password"})
+    @ToString.Exclude
     private User assignedTo;
 
     @Column(name = "creation_date")
@@ -49,6 +53,11 @@ public class Task {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    // Incremented on every update; checked on write and used as the task ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Custom constructor without all fields
     public Task(String title, String description, Priority priority, LocalDateTime dueDate, User user) {
         this.title = title;
@@ -61,6 +70,21 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Change the status, recording when the task was first started and when it was completed.
+     * Reopening a completed task clears its completion time
+     */
+    public void changeStatus(TaskStatus newStatus, LocalDateTime at) {
+        if (newStatus == status) {
+            return;
+        }
+        if (newStatus == TaskStatus.IN_PROGRESS && startedAt == null) {
+            startedAt = at;
+        }
+        completedAt = newStatus == TaskStatus.DONE ? at : null;
+        status = newStatus;
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -1,6 +1,10 @@
 package org.task_manager.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.task_manager.backend.config.HibernateCacheConfig;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +14,11 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USERS_REGION)
+// Authentication and user listings serialize the same user and role; task lists, details and analytics
+// read projections instead of entities, so they need no graph of their own
+@NamedEntityGraph(name = "User.withRole", attributeNodes = @NamedAttributeNode("role"))
 @Table(name = "users",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = "username"),
@@ -18,7 +27,8 @@ import jakarta.validation.constraints.Size;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -37,6 +47,8 @@ public class User {
     @Column(nullable = false)
     private String password;
 
+    // Eager so users assembled from the second-level cache resolve their role from the roles region;
+    // entity graphs are not applied to cache hits
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "role_id", nullable = false)
     private Role role;
@@ -44,9 +56,6 @@ public class User {
     @OneToMany(mappedBy = "assignedTo", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Task> tasks = new ArrayList<>();
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
-    private UserSettings userSettings;
-
     @Column(name = "created_at")
     private java.time.LocalDateTime createdAt;
 
@@ -164,14 +173,6 @@ public class User {
         this.designation = designation;
     }
 
-    public UserSettings getUserSettings() {
-        return userSettings;
-    }
-
-    public void setUserSettings(UserSettings userSettings) {
-        this.userSettings = userSettings;
-    }
-
     // Helper methods
     public void addTask(Task task) {
         tasks.add(task);
@@ -195,7 +196,7 @@ public class User {
                 "id=" + id +
                 ", username='" + username + '\'' +
                 ", email='" + email + '\'' +
-                ", role=" + (role != null ? role.getName() : "null") +
+                ", role=" + (role != null && Hibernate.isInitialized(role) ? role.getName() : "null") +
                 '}';
     }
 }
@@ -0,0 +1,64 @@
+package org.task_manager.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Task counts of one user on one day, for tasks of one priority.
+ * Rows are written by {@link org.task_manager.backend.stats.UserDailyStatsRollup}; tasks
+ * without a priority count as MEDIUM.
+ */
+@Entity
+@IdClass(UserDailyStats.Key.class)
+@Table(name = "user_daily_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    // Tasks created that day
+    @Column(nullable = false)
+    private int created;
+
+    // Tasks first moved to IN_PROGRESS that day
+    @Column(nullable = false)
+    private int started;
+
+    // Tasks completed that day and still DONE
+    @Column(nullable = false)
+    private int completed;
+
+    // Of those, tasks that had a due date and were completed before it
+    @Column(name = "completed_on_time", nullable = false)
+    private int completedOnTime;
+
+    // Open tasks past their due date when the day ended
+    @Column(name = "overdue_at_eod", nullable = false)
+    private int overdueAtEod;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate statDate;
+        private Priority priority;
+    }
+}
@@ -5,9 +5,18 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.task_manager.backend.config.HibernateCacheConfig;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_SETTINGS_REGION)
+@NamedEntityGraph(name = "UserSettings.detail",
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role")))
 @Table(name = "user_settings")
 @Data
 @NoArgsConstructor
@@ -18,9 +27,11 @@ public class UserSettings {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    // Eager for the same reason as User.role: cached settings resolve the user from the users region
     @OneToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id", unique = true, nullable = false)
     @JsonIgnoreProperties({"password", "tasks", "userSettings"})
+    @ToString.Exclude
     private User user;
     
     // Notification Settings
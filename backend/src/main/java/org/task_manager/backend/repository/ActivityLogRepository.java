@@ -1,6 +1,7 @@
 package org.task_manager.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.task_manager.backend.model.ActivityLog;
@@ -101,4 +102,11 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
      * Delete activity logs older than a specific date (for cleanup)
      */
     long deleteByTimestampBefore(LocalDateTime date);
+    
+    /**
+     * Delete all activity logs of a user in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM ActivityLog a WHERE a.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 }
@@ -1,6 +1,7 @@
 package org.task_manager.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.task_manager.backend.model.Report;
@@ -125,4 +126,11 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      */
     @Query("SELECT r FROM Report r WHERE r.generatedAt >= :dateThreshold ORDER BY r.generatedAt DESC")
     List<Report> findRecentReports(@Param("dateThreshold") LocalDateTime dateThreshold);
+    
+    /**
+     * Delete all reports generated by a user in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.generatedBy.id = :userId")
+    int deleteByGeneratedById(@Param("userId") Long userId);
 }
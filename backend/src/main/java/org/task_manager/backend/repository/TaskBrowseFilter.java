@@ -0,0 +1,22 @@
+package org.task_manager.backend.repository;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for the admin task browser. Null fields are ignored.
+ *
+ * @param dueFrom inclusive lower bound on the due date
+ * @param dueTo   exclusive upper bound on the due date
+ */
+public record TaskBrowseFilter(
+        TaskStatus status,
+        Priority priority,
+        Long assigneeId,
+        String department,
+        LocalDateTime dueFrom,
+        LocalDateTime dueTo
+) {
+}
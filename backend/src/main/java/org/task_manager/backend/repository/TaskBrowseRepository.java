@@ -0,0 +1,49 @@
+package org.task_manager.backend.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.task_manager.backend.dto.AdminTaskDto;
+import org.task_manager.backend.model.Task;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+import org.task_manager.backend.util.KeysetCursor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskBrowseRepository {
+
+    /**
+     * Fetch up to {@code limit} task rows ordered by (sortKey, id), starting after the cursor.
+     * Only the selected columns are read, so the cost of a page does not depend on the table size.
+     */
+    List<AdminTaskDto> browse(TaskBrowseFilter filter, TaskSortKey sortKey, boolean ascending,
+                              KeysetCursor after, int limit);
+
+    /**
+     * Fetch a page of task list rows matching the specification, selecting only the listed
+     * columns in one join with the assignee. The COUNT is skipped when the page shows it is not needed.
+     */
+    Page<TaskListRow> findListRows(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Stream every task list row matching the specification in the given order, with a bounded
+     * JDBC fetch size. Must be consumed inside a transaction and closed.
+     */
+    Stream<TaskListRow> streamListRows(Specification<Task> spec, Sort sort);
+
+    /**
+     * Summarize the tasks matching the specification in one aggregate query, so a client can
+     * tell whether a list changed without reading its rows.
+     */
+    TaskSetVersion findSetVersion(Specification<Task> spec);
+
+    /**
+     * Fetch up to {@code limit} task list rows matching the specification, ordered by (sortKey, id)
+     * and starting after the cursor. Unlike a {@code Page} query this never runs a COUNT.
+     */
+    List<TaskListRow> scroll(Specification<Task> spec, TaskSortKey sortKey, boolean ascending,
+                      KeysetCursor after, int limit);
+}
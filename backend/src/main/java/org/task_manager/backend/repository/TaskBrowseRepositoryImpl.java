@@ -0,0 +1,219 @@
+package org.task_manager.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.task_manager.backend.dto.AdminTaskDto;
+import org.task_manager.backend.model.Task;
+import org.task_manager.backend.model.User;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+import org.task_manager.backend.util.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class TaskBrowseRepositoryImpl implements TaskBrowseRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<AdminTaskDto> browse(TaskBrowseFilter filter, TaskSortKey sortKey, boolean ascending,
+                                     KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AdminTaskDto> query = cb.createQuery(AdminTaskDto.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> assignee = task.join("assignedTo", JoinType.LEFT);
+
+        query.select(cb.construct(AdminTaskDto.class,
+                task.get("id"), task.get("title"), task.get("status"), task.get("priority"),
+                task.get("dueDate"), task.get("creationDate"), task.get("updatedAt"),
+                assignee.get("id"), assignee.get("username"), assignee.get("department")));
+
+        List<Predicate> predicates = filterPredicates(cb, task, assignee, filter);
+        applyKeyset(cb, query, task, predicates, sortKey, ascending, after);
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Page<TaskListRow> findListRows(Specification<Task> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListRow> query = cb.createQuery(TaskListRow.class);
+        Root<Task> task = query.from(Task.class);
+        selectListRow(cb, query, task);
+
+        Predicate filter = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        TypedQuery<TaskListRow> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public Stream<TaskListRow> streamListRows(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListRow> query = cb.createQuery(TaskListRow.class);
+        Root<Task> task = query.from(Task.class);
+        selectListRow(cb, query, task);
+
+        Predicate filter = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, task, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public TaskSetVersion findSetVersion(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSetVersion> query = cb.createQuery(TaskSetVersion.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> assignee = task.join("assignedTo", JoinType.LEFT);
+        query.select(cb.construct(TaskSetVersion.class,
+                cb.count(task), cb.sum(task.<Long>get("version")), cb.greatest(task.<LocalDateTime>get("updatedAt")),
+                cb.greatest(assignee.<LocalDateTime>get("updatedAt"))));
+
+        Predicate filter = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (filter != null) {
+            query.where(filter);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<TaskListRow> scroll(Specification<Task> spec, TaskSortKey sortKey, boolean ascending,
+                                    KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListRow> query = cb.createQuery(TaskListRow.class);
+        Root<Task> task = query.from(Task.class);
+        selectListRow(cb, query, task);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        applyKeyset(cb, query, task, predicates, sortKey, ascending, after);
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private void selectListRow(CriteriaBuilder cb, CriteriaQuery<TaskListRow> query, Root<Task> task) {
+        Join<Task, User> assignee = task.join("assignedTo", JoinType.LEFT);
+        query.select(cb.construct(TaskListRow.class,
+                task.get("id"), task.get("title"), task.get("description"), task.get("status"),
+                task.get("priority"), task.get("dueDate"), task.get("creationDate"), task.get("updatedAt"),
+                task.get("completedAt"), task.get("version"), assignee.get("id"), assignee.get("username")));
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task));
+
+        Predicate filter = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (filter != null) {
+            query.where(filter);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Add the cursor condition to the predicates and order by (key, id)
+     */
+    private void applyKeyset(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Task> task, List<Predicate> predicates,
+                             TaskSortKey sortKey, boolean ascending, KeysetCursor after) {
+        Path<Long> id = task.get("id");
+        Path<LocalDateTime> key = sortKey == TaskSortKey.ID ? null : task.get(sortKey.attribute());
+
+        if (after != null) {
+            predicates.add(afterCursor(cb, key, id, ascending, after));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        List<Order> order = new ArrayList<>();
+        if (key != null) {
+            order.add(ascending ? cb.asc(key) : cb.desc(key));
+        }
+        order.add(ascending ? cb.asc(id) : cb.desc(id));
+        query.orderBy(order);
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Task> task, Join<Task, User> assignee,
+                                             TaskBrowseFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add(cb.equal(task.get("status"), filter.status()));
+        }
+        if (filter.priority() != null) {
+            predicates.add(cb.equal(task.get("priority"), filter.priority()));
+        }
+        if (filter.assigneeId() != null) {
+            predicates.add(cb.equal(assignee.get("id"), filter.assigneeId()));
+        }
+        if (filter.department() != null) {
+            predicates.add(cb.equal(cb.lower(assignee.get("department")), filter.department().toLowerCase()));
+        }
+        if (filter.dueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.get("dueDate"), filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            predicates.add(cb.lessThan(task.get("dueDate"), filter.dueTo()));
+        }
+        return predicates;
+    }
+
+    /**
+     * Rows strictly after the cursor in (key, id) order.
+     * NULL sort values sort lowest, as in MySQL: first when ascending, last when descending.
+     */
+    private Predicate afterCursor(CriteriaBuilder cb, Path<LocalDateTime> key, Path<Long> id,
+                                  boolean ascending, KeysetCursor after) {
+        Predicate idAfter = ascending ? cb.greaterThan(id, after.id()) : cb.lessThan(id, after.id());
+        if (key == null) {
+            return idAfter;
+        }
+
+        LocalDateTime value = after.value();
+        if (value == null) {
+            Predicate nullsAfter = cb.and(cb.isNull(key), idAfter);
+            return ascending ? cb.or(nullsAfter, cb.isNotNull(key)) : nullsAfter;
+        }
+
+        Predicate keyAfter = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate tieAfter = cb.and(cb.equal(key, value), idAfter);
+        return ascending ? cb.or(keyAfter, tieAfter) : cb.or(keyAfter, tieAfter, cb.isNull(key));
+    }
+}
@@ -1,25 +1,76 @@
 package org.task_manager.backend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.task_manager.backend.model.Priority;
 import org.task_manager.backend.model.Task;
+import org.task_manager.backend.model.User;
 import org.task_manager.backend.model.TaskStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.task_manager.backend.repository.projection.DepartmentTaskRow;
+import org.task_manager.backend.repository.projection.DueDateCount;
+import org.task_manager.backend.repository.projection.TaskActivityView;
+import org.task_manager.backend.repository.projection.TaskCountRow;
+import org.task_manager.backend.repository.projection.TaskExportRow;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.TaskRollupView;
+import org.task_manager.backend.repository.projection.TaskSearchRow;
+import org.task_manager.backend.repository.projection.TaskVersion;
+import org.task_manager.backend.repository.projection.UserTaskCount;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskBrowseRepository {
+
+    String TASK_LIST_ROW_SELECT = "SELECT new org.task_manager.backend.repository.projection.TaskListRow(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.creationDate, t.updatedAt, " +
+            "t.completedAt, t.version, a.id, a.username) FROM Task t LEFT JOIN t.assignedTo a ";
 
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
-    
     // Existing methods
     List<Task> findByAssignedToId(Long userId);
     List<Task> findByAssignedToIdAndStatus(Long userId, TaskStatus status);
     List<Task> findByAssignedToIdOrderByDueDateAsc(Long userId);
     List<Task> findByPriorityOrderByDueDateAsc(Priority priority);
+    long countByAssignedToId(Long userId);
     long countByAssignedToIdAndStatus(Long userId, TaskStatus status);
-    
+
+    /**
+     * Find assigned tasks in a status together with their assignee
+     */
+    @EntityGraph("Task.reminder")
+    List<Task> findByStatusAndAssignedToIsNotNull(TaskStatus status);
+
+    // Read-only list projections
+    @Query(TASK_LIST_ROW_SELECT + "WHERE t.id = :id")
+    Optional<TaskListRow> findListRowById(@Param("id") Long id);
+
+    // Primary key lookup for conditional GETs; the row itself is only read when the version changed
+    @Query("SELECT new org.task_manager.backend.repository.projection.TaskVersion(t.version, a.updatedAt) " +
+            "FROM Task t LEFT JOIN t.assignedTo a WHERE t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    @Query(TASK_LIST_ROW_SELECT + "WHERE t.id IN :ids")
+    List<TaskListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(TASK_LIST_ROW_SELECT + "WHERE a.id = :userId")
+    List<TaskListRow> findListRowsByAssignedToId(@Param("userId") Long userId);
+
+    @Query(TASK_LIST_ROW_SELECT + "WHERE a.id = :userId AND t.status IN :statuses")
+    List<TaskListRow> findListRowsByAssignedToIdAndStatusIn(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<TaskStatus> statuses);
+
     // Analytics query methods
     @Query("SELECT t FROM Task t WHERE t.assignedTo.id = :userId AND t.creationDate BETWEEN :fromDate AND :toDate")
     List<Task> findByAssignedToIdAndCreationDateBetween(
@@ -41,11 +92,26 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
             @Param("fromDate") LocalDateTime fromDate,
             @Param("toDate") LocalDateTime toDate);
     
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = :userId AND t.status = :status AND t.updatedAt <= t.dueDate")
-    long countCompletedOnTimeByAssignedToId(
+    @Query(TASK_LIST_ROW_SELECT + "WHERE a.id = :userId AND t.status = :status AND t.completedAt BETWEEN :fromDate AND :toDate")
+    List<TaskListRow> findListRowsByAssignedToIdAndStatusAndCompletedAtBetween(
             @Param("userId") Long userId,
-            @Param("status") TaskStatus status);
-    
+            @Param("status") TaskStatus status,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate);
+
+    /**
+     * Find the assigned tasks that department analytics count: open ones, and ones completed in [fromDate, toDate]
+     */
+    @Query("SELECT new org.task_manager.backend.repository.projection.DepartmentTaskRow(" +
+           "t.assignedTo.id, t.status, t.dueDate, t.completedAt) FROM Task t " +
+           "WHERE t.assignedTo IS NOT NULL AND (t.status IN :openStatuses " +
+           "OR (t.status = :doneStatus AND t.completedAt BETWEEN :fromDate AND :toDate))")
+    List<DepartmentTaskRow> findDepartmentRows(
+            @Param("openStatuses") Collection<TaskStatus> openStatuses,
+            @Param("doneStatus") TaskStatus doneStatus,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate);
+
     // New query methods for enhanced filtering
     /**
      * Find tasks by status
@@ -121,4 +187,129 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      */
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = :userId AND t.status = 'TODO'")
     long countPendingTasksByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // Dashboard counter queries
+    /**
+     * Count tasks per status and priority in a single scan, along with how many
+     * of them are overdue at {@code now} and how many were created since {@code since}
+     */
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS total, " +
+           "SUM(CASE WHEN t.dueDate < :now AND t.status != 'DONE' THEN 1 ELSE 0 END) AS overdue, " +
+           "SUM(CASE WHEN t.creationDate >= :since THEN 1 ELSE 0 END) AS createdSince " +
+           "FROM Task t GROUP BY t.status, t.priority")
+    List<TaskCountRow> countByStatusAndPriority(
+            @Param("now") LocalDateTime now,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * Count open tasks per due date, for due dates not yet passed
+     */
+    @Query("SELECT t.dueDate AS dueDate, COUNT(t) AS total FROM Task t " +
+           "WHERE t.dueDate >= :now AND t.status != 'DONE' GROUP BY t.dueDate")
+    List<DueDateCount> countOpenTasksByDueDateFrom(@Param("now") LocalDateTime now);
+
+    /**
+     * Find activity timestamps of assigned tasks touched on or after a date
+     */
+    @Query("SELECT t.assignedTo.id AS userId, t.creationDate AS creationDate, t.updatedAt AS updatedAt, " +
+           "t.startedAt AS startedAt, t.completedAt AS completedAt FROM Task t " +
+           "WHERE t.assignedTo IS NOT NULL AND (t.creationDate >= :from OR t.updatedAt >= :from " +
+           "OR t.startedAt >= :from OR t.completedAt >= :from)")
+    List<TaskActivityView> findActivitySince(@Param("from") LocalDateTime from);
+
+    /**
+     * Stream the assigned tasks that count towards the daily stats of [from, to): created, started or
+     * completed in it, or due before its end and not completed before its start.
+     * Optionally only one user's. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.assignedTo.id AS userId, t.priority AS priority, t.status AS status, " +
+           "t.creationDate AS creationDate, t.startedAt AS startedAt, t.completedAt AS completedAt, " +
+           "t.dueDate AS dueDate FROM Task t " +
+           "WHERE t.assignedTo IS NOT NULL AND (:userId IS NULL OR t.assignedTo.id = :userId) " +
+           "AND ((t.creationDate >= :from AND t.creationDate < :to) " +
+           "OR (t.startedAt >= :from AND t.startedAt < :to) " +
+           "OR (t.completedAt >= :from AND t.completedAt < :to) " +
+           "OR (t.dueDate < :to AND (t.completedAt IS NULL OR t.completedAt >= :from)))")
+    Stream<TaskRollupView> streamForDailyStats(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Stream report rows in id order with a bounded JDBC fetch size.
+     * Null filters are ignored. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id AS id, t.title AS title, t.status AS status, t.priority AS priority, " +
+           "u.username AS assignedToUsername FROM Task t LEFT JOIN t.assignedTo u " +
+           "WHERE (:status IS NULL OR t.status = :status) " +
+           "AND (:priority IS NULL OR t.priority = :priority) " +
+           "AND (:fromDate IS NULL OR t.creationDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR t.creationDate < :toDate) " +
+           "ORDER BY t.id")
+    Stream<TaskExportRow> streamForExport(
+            @Param("status") TaskStatus status,
+            @Param("priority") Priority priority,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate);
+
+    /**
+     * Count total and completed tasks for each of the given assignees
+     */
+    @Query("SELECT t.assignedTo.id AS userId, COUNT(t) AS total, " +
+           "SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END) AS completed " +
+           "FROM Task t WHERE t.assignedTo.id IN :userIds GROUP BY t.assignedTo.id")
+    List<UserTaskCount> countTasksByAssignees(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Count total and completed tasks for every assignee
+     */
+    @Query("SELECT t.assignedTo.id AS userId, COUNT(t) AS total, " +
+           "SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END) AS completed " +
+           "FROM Task t WHERE t.assignedTo IS NOT NULL GROUP BY t.assignedTo.id")
+    List<UserTaskCount> countTasksGroupedByAssignee();
+
+    /**
+     * Read search index rows in id order, one keyset page at a time
+     */
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.status AS status, " +
+           "t.priority AS priority, a.id AS assignedToId FROM Task t LEFT JOIN t.assignedTo a " +
+           "WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    // Bulk reassignment, used when deleting a user
+    /**
+     * Find ids of tasks assigned to a user in id order, one page at a time
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.assignedTo.id = :userId ORDER BY t.id")
+    List<Long> findIdsByAssignedToId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Unassign every task of a user in one statement
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = NULL, t.updatedAt = :now, t.version = t.version + 1 WHERE t.assignedTo.id = :userId")
+    int unassignAllFromUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Hand every task of a user over to another user in one statement
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = :target, t.updatedAt = :now, t.version = t.version + 1 WHERE t.assignedTo.id = :userId")
+    int reassignAllFromUser(@Param("userId") Long userId, @Param("target") User target, @Param("now") LocalDateTime now);
+
+    /**
+     * Unassign the given tasks
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = NULL, t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids")
+    int unassignByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Assign the given tasks to another user
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = :target, t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids")
+    int reassignByIds(@Param("ids") Collection<Long> ids, @Param("target") User target, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package org.task_manager.backend.repository;
+
+import java.util.Arrays;
+
+/**
+ * Task attributes usable as a keyset pagination sort key.
+ * Ties are always broken by id.
+ */
+public enum TaskSortKey {
+    ID("id"),
+    CREATION_DATE("creationDate"),
+    UPDATED_AT("updatedAt"),
+    DUE_DATE("dueDate");
+
+    private final String attribute;
+
+    TaskSortKey(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Resolve a sort key from its attribute name
+     */
+    public static TaskSortKey fromAttribute(String attribute) {
+        return Arrays.stream(values())
+                .filter(key -> key.attribute.equalsIgnoreCase(attribute))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + attribute));
+    }
+}
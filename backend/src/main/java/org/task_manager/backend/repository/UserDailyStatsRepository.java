@@ -0,0 +1,55 @@
+package org.task_manager.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.task_manager.backend.model.UserDailyStats;
+import org.task_manager.backend.repository.projection.DailyStatsTotal;
+import org.task_manager.backend.repository.projection.MonthlyCompletionCount;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserDailyStatsRepository extends JpaRepository<UserDailyStats, UserDailyStats.Key> {
+
+    /**
+     * Sum a user's counts per day between two dates (inclusive); days without rows are left out
+     */
+    @Query("SELECT s.statDate AS statDate, SUM(s.created) AS created, SUM(s.started) AS started, " +
+           "SUM(s.completed) AS completed, SUM(s.completedOnTime) AS completedOnTime, " +
+           "SUM(s.overdueAtEod) AS overdueAtEod FROM UserDailyStats s " +
+           "WHERE s.userId = :userId AND s.statDate BETWEEN :fromDate AND :toDate " +
+           "GROUP BY s.statDate")
+    List<DailyStatsTotal> sumByDay(
+            @Param("userId") Long userId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * Sum a user's completions per calendar month between two dates (inclusive)
+     */
+    @Query("SELECT YEAR(s.statDate) AS year, MONTH(s.statDate) AS month, SUM(s.completed) AS completed, " +
+           "SUM(s.completedOnTime) AS completedOnTime FROM UserDailyStats s " +
+           "WHERE s.userId = :userId AND s.statDate BETWEEN :fromDate AND :toDate " +
+           "GROUP BY YEAR(s.statDate), MONTH(s.statDate)")
+    List<MonthlyCompletionCount> sumCompletedByMonth(
+            @Param("userId") Long userId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyStats s WHERE s.statDate BETWEEN :fromDate AND :toDate")
+    int deleteByStatDateBetween(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyStats s WHERE s.userId = :userId AND s.statDate BETWEEN :fromDate AND :toDate")
+    int deleteByUserIdAndStatDateBetween(
+            @Param("userId") Long userId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyStats s WHERE s.statDate < :before")
+    int deleteByStatDateBefore(@Param("before") LocalDate before);
+}
@@ -1,11 +1,20 @@
 package org.task_manager.backend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.task_manager.backend.model.Role;
 import org.task_manager.backend.model.RoleName;
 import org.task_manager.backend.model.User;
+import org.task_manager.backend.repository.projection.AdminUserView;
+import org.task_manager.backend.repository.projection.UserGroupView;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,8 +23,26 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<org.task_manager.backend.model.User, Long> {
     
     // Existing methods
+    /**
+     * Load a user with its role, as needed to authenticate every request
+     */
+    @EntityGraph("User.withRole")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<org.task_manager.backend.model.User> findByUsername(String username);
+
+    @EntityGraph("User.withRole")
     Optional<User> findByEmail(String email);
+
+    @Override
+    @EntityGraph("User.withRole")
+    Optional<User> findById(Long id);
+
+    /**
+     * Load every user with its role for user listings
+     */
+    @Override
+    @EntityGraph("User.withRole")
+    List<User> findAll();
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
     
@@ -43,6 +70,7 @@ public interface UserRepository extends JpaRepository<org.task_manager.backend.m
     /**
      * Search users by username or email (case-insensitive)
      */
+    @EntityGraph("User.withRole")
     @Query("SELECT u FROM User u WHERE " +
            "LOWER(u.username) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
@@ -84,4 +112,34 @@ public interface UserRepository extends JpaRepository<org.task_manager.backend.m
      */
     @Query("SELECT u FROM User u ORDER BY u.username ASC")
     List<User> findAllOrderByUsernameAsc();
-}
\ No newline at end of file
+
+    /**
+     * Find every user's department and designation, without loading the users
+     */
+    @Query("SELECT u.id AS id, u.department AS department, u.designation AS designation FROM User u")
+    List<UserGroupView> findAllGroups();
+
+    /**
+     * Page through users for the admin listing, optionally filtered by role and department.
+     * Null filters are ignored.
+     */
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.email AS email, r.name AS role, " +
+                   "u.department AS department, u.createdAt AS createdAt FROM User u JOIN u.role r " +
+                   "WHERE (:roleName IS NULL OR r.name = :roleName) " +
+                   "AND (:department IS NULL OR LOWER(u.department) = LOWER(:department))",
+           countQuery = "SELECT COUNT(u) FROM User u JOIN u.role r " +
+                        "WHERE (:roleName IS NULL OR r.name = :roleName) " +
+                        "AND (:department IS NULL OR LOWER(u.department) = LOWER(:department))")
+    Page<AdminUserView> findAdminUsers(
+            @Param("roleName") RoleName roleName,
+            @Param("department") String department,
+            Pageable pageable);
+
+    /**
+     * Delete a user row directly, without cascading through the entity graph.
+     * Callers must remove or detach dependent rows first.
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int deleteUserRow(@Param("userId") Long userId);
+}
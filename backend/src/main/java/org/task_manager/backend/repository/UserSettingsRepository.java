@@ -1,7 +1,12 @@
 package org.task_manager.backend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.task_manager.backend.model.User;
 import org.task_manager.backend.model.UserSettings;
@@ -11,16 +16,25 @@ import java.util.Optional;
 public interface UserSettingsRepository extends JpaRepository<UserSettings, Long> {
     
     /**
-     * Find user settings by associated user
+     * Find user settings by associated user, with the user and role they are serialized with
      */
+    @EntityGraph("UserSettings.detail")
     Optional<UserSettings> findByUser(User user);
     
     /**
-     * Find user settings by user ID
+     * Find user settings by user ID, with the user and role they are serialized with
      */
+    @EntityGraph("UserSettings.detail")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT us FROM UserSettings us WHERE us.user.id = :userId")
     Optional<UserSettings> findByUserId(@Param("userId") Long userId);
     
+    /**
+     * Of the given users, find those with email notifications enabled
+     */
+    @Query("SELECT us.user.id FROM UserSettings us WHERE us.user.id IN :userIds AND us.emailNotifications = true")
+    java.util.Set<Long> findUserIdsWithEmailNotifications(@Param("userIds") java.util.Collection<Long> userIds);
+
     /**
      * Check if user has settings configured
      */
@@ -77,4 +91,11 @@ public interface UserSettingsRepository extends JpaRepository<UserSettings, Long
      * Count users with two-factor authentication enabled
      */
     long countByTwoFactorEnabledTrue();
+    
+    /**
+     * Delete the settings of a user in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM UserSettings us WHERE us.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,23 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.RoleName;
+
+import java.time.LocalDateTime;
+
+/**
+ * User columns shown in the admin user listing
+ */
+public interface AdminUserView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    RoleName getRole();
+
+    String getDepartment();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,21 @@
+package org.task_manager.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * One user's rollup counts for a day, summed over priorities
+ */
+public interface DailyStatsTotal {
+
+    LocalDate getStatDate();
+
+    long getCreated();
+
+    long getStarted();
+
+    long getCompleted();
+
+    long getCompletedOnTime();
+
+    long getOverdueAtEod();
+}
@@ -0,0 +1,16 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of an assigned task that department analytics count.
+ * A constructor projection so synthetic rows can be built for benchmarks.
+ */
+public record DepartmentTaskRow(
+        Long userId,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        LocalDateTime completedAt) {
+}
@@ -0,0 +1,13 @@
+package org.task_manager.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of tasks sharing the same due date
+ */
+public interface DueDateCount {
+
+    LocalDateTime getDueDate();
+
+    long getTotal();
+}
@@ -0,0 +1,18 @@
+package org.task_manager.backend.repository.projection;
+
+/**
+ * Tasks completed in one calendar month
+ */
+public interface MonthlyCompletionCount {
+
+    int getYear();
+
+    int getMonth();
+
+    long getCompleted();
+
+    /**
+     * Completed tasks that had a due date and were finished before it
+     */
+    long getCompletedOnTime();
+}
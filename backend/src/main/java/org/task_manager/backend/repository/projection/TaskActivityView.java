@@ -0,0 +1,19 @@
+package org.task_manager.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Assignee and activity timestamps of a task, without loading the entity
+ */
+public interface TaskActivityView {
+
+    Long getUserId();
+
+    LocalDateTime getCreationDate();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getStartedAt();
+
+    LocalDateTime getCompletedAt();
+}
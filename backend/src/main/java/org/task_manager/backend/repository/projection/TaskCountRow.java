@@ -0,0 +1,26 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+/**
+ * One cell of the status x priority task count matrix
+ */
+public interface TaskCountRow {
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    long getTotal();
+
+    /**
+     * Tasks in this cell that are past their due date and not completed
+     */
+    long getOverdue();
+
+    /**
+     * Tasks in this cell created on or after the requested date
+     */
+    long getCreatedSince();
+}
@@ -0,0 +1,20 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+/**
+ * Columns written to the admin CSV task report
+ */
+public interface TaskExportRow {
+
+    Long getId();
+
+    String getTitle();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    String getAssignedToUsername();
+}
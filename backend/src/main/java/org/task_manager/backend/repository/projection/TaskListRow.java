@@ -0,0 +1,25 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown in task lists and task details, selected in one join with the assignee.
+ * A constructor projection so it can be built from JPQL and Criteria queries alike.
+ */
+public record TaskListRow(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        Priority priority,
+        LocalDateTime dueDate,
+        LocalDateTime creationDate,
+        LocalDateTime updatedAt,
+        LocalDateTime completedAt,
+        Long version,
+        Long assignedToId,
+        String assignedToUsername) {
+}
@@ -0,0 +1,26 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of an assigned task that the daily stats rollup counts, without loading the entity
+ */
+public interface TaskRollupView {
+
+    Long getUserId();
+
+    Priority getPriority();
+
+    TaskStatus getStatus();
+
+    LocalDateTime getCreationDate();
+
+    LocalDateTime getStartedAt();
+
+    LocalDateTime getCompletedAt();
+
+    LocalDateTime getDueDate();
+}
@@ -0,0 +1,22 @@
+package org.task_manager.backend.repository.projection;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+/**
+ * Text and filter columns of a task, for building the search index
+ */
+public interface TaskSearchRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    Long getAssignedToId();
+}
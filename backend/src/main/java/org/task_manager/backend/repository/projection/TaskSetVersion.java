@@ -0,0 +1,16 @@
+package org.task_manager.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate fingerprint of a set of tasks.
+ * Any insert, delete or update in the set changes the count or the version sum, and a task
+ * moving into the set brings a fresh updatedAt. Renaming an assignee changes no task, so the
+ * latest assignee update is part of the fingerprint too.
+ */
+public record TaskSetVersion(
+        Long count,
+        Long versionSum,
+        LocalDateTime lastUpdatedAt,
+        LocalDateTime assigneesUpdatedAt) {
+}
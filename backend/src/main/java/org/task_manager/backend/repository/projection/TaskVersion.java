@@ -0,0 +1,12 @@
+package org.task_manager.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a task's entity tag is built from: its own version and the last change to its assignee,
+ * whose username is part of every task representation.
+ */
+public record TaskVersion(
+        Long version,
+        LocalDateTime assigneeUpdatedAt) {
+}
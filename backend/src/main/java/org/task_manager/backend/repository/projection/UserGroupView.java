@@ -0,0 +1,13 @@
+package org.task_manager.backend.repository.projection;
+
+/**
+ * A user's id with the department and designation it is grouped by in team analytics
+ */
+public interface UserGroupView {
+
+    Long getId();
+
+    String getDepartment();
+
+    String getDesignation();
+}
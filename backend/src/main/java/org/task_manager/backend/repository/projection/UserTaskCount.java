@@ -0,0 +1,13 @@
+package org.task_manager.backend.repository.projection;
+
+/**
+ * Total and completed task counts for one assignee
+ */
+public interface UserTaskCount {
+
+    Long getUserId();
+
+    long getTotal();
+
+    long getCompleted();
+}
@@ -7,10 +7,12 @@ import org.springframework.stereotype.Component;
 import org.task_manager.backend.model.Task;
 import org.task_manager.backend.model.TaskStatus;
 import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserSettingsRepository;
 import org.task_manager.backend.service.EmailService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskReminderSchedular {
     private final TaskRepository taskRepository;
+    private final UserSettingsRepository userSettingsRepository;
     private final EmailService emailService;
 
     @Scheduled(cron = "0 0 8 * * *") // සෑම දිනකම උදෑසන 8 ට වැඩ කරයි
@@ -25,27 +28,20 @@ public class TaskReminderSchedular {
         log.info("[SCHEDULER-DEBUG] ========================================");
         log.info("[SCHEDULER-DEBUG] Daily reminder job started at: {}", LocalDateTime.now());
         
-        List<Task> allTasks = taskRepository.findAll();
-        log.info("[SCHEDULER-DEBUG] Total tasks in database: {}", allTasks.size());
-        
-        List<Task> todoTasks = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.TODO)
-                .collect(Collectors.toList());
-        log.info("[SCHEDULER-DEBUG] Tasks with TODO status: {}", todoTasks.size());
-        
-        List<Task> tasksWithAssignee = todoTasks.stream()
-                .filter(task -> task.getAssignedTo() != null)
-                .collect(Collectors.toList());
+        List<Task> tasksWithAssignee = taskRepository.findByStatusAndAssignedToIsNotNull(TaskStatus.TODO);
         log.info("[SCHEDULER-DEBUG] TODO tasks with assignee: {}", tasksWithAssignee.size());
+
+        Set<Long> notifiedUserIds = tasksWithAssignee.isEmpty() ? Set.of()
+                : userSettingsRepository.findUserIdsWithEmailNotifications(tasksWithAssignee.stream()
+                        .map(task -> task.getAssignedTo().getId())
+                        .collect(Collectors.toSet()));
         
         tasksWithAssignee.forEach(task -> {
             log.info("[SCHEDULER-DEBUG] Processing task '{}' for user: {}", 
                     task.getTitle(), task.getAssignedTo().getUsername());
             
             // Check if user has email notifications enabled
-            boolean emailNotificationsEnabled = task.getAssignedTo().getUserSettings() != null 
-                    && task.getAssignedTo().getUserSettings().getEmailNotifications() != null
-                    && task.getAssignedTo().getUserSettings().getEmailNotifications();
+            boolean emailNotificationsEnabled = notifiedUserIds.contains(task.getAssignedTo().getId());
             
             log.info("[SCHEDULER-DEBUG] User '{}' emailNotifications setting: {}", 
                     task.getAssignedTo().getUsername(), emailNotificationsEnabled);
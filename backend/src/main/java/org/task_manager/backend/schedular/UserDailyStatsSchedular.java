@@ -0,0 +1,42 @@
+package org.task_manager.backend.schedular;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.task_manager.backend.stats.UserAnalyticsCache;
+import org.task_manager.backend.stats.UserDailyStatsRollup;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+public class UserDailyStatsSchedular {
+    private final UserDailyStatsRollup userDailyStatsRollup;
+    private final UserAnalyticsCache userAnalyticsCache;
+    private final int reconcileDays;
+
+    public UserDailyStatsSchedular(UserDailyStatsRollup userDailyStatsRollup,
+                                   UserAnalyticsCache userAnalyticsCache,
+                                   @Value("${app.analytics.daily-stats.reconcile-days:7}") int reconcileDays) {
+        this.userDailyStatsRollup = userDailyStatsRollup;
+        this.userAnalyticsCache = userAnalyticsCache;
+        this.reconcileDays = Math.max(reconcileDays, 2);
+    }
+
+    /**
+     * Recompute the last days of the rollup from the tasks, including the overdue counts of the day
+     * that just ended, and drop rows past the retention
+     */
+    @Scheduled(cron = "${app.analytics.daily-stats.cron:0 15 0 * * *}")
+    public void reconcileDailyStats() {
+        LocalDate today = LocalDate.now();
+        long start = System.currentTimeMillis();
+        int rows = userDailyStatsRollup.reconcile(today.minusDays(reconcileDays - 1), today, null);
+        int pruned = userDailyStatsRollup.prune();
+        // Corrected counts are not tied to task changes
+        userAnalyticsCache.clear();
+        log.info("User daily stats reconciled for the last {} days: {} rows, {} pruned in {} ms",
+                reconcileDays, rows, pruned, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,12 @@
+package org.task_manager.backend.search;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+/**
+ * Filters applied inside the search index before ranking. Null fields are ignored.
+ */
+public record TaskSearchFilter(Long assigneeId, TaskStatus status, Priority priority) {
+
+    public static final TaskSearchFilter NONE = new TaskSearchFilter(null, null, null);
+}
@@ -0,0 +1,403 @@
+package org.task_manager.backend.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.event.TasksReassignedEvent;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.projection.TaskSearchRow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * Each term maps to a compressed bitmap of task ids, kept separately for titles and
+ * descriptions, alongside bitmaps per status, priority and assignee so filters are
+ * intersected before ranking. Loaded from the database on startup and kept in sync
+ * from committed task changes.
+ * <p>
+ * Every query term must match a title or description term, as a prefix when it is at
+ * least {@value #MIN_PREFIX_LENGTH} characters long. Results are ranked by the
+ * inverse-document-frequency weight of the terms that matched in the title, then newest first.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    // Title matches of the rarest terms decide the ranking tiers; 2^n tiers are evaluated
+    private static final int MAX_RANKED_TERMS = 4;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final TaskRepository taskRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private Postings postings = new Postings();
+    // Changes committed while a rebuild is loading, replayed in commit order onto the new postings
+    private List<Consumer<Postings>> changesDuringRebuild;
+
+    /**
+     * Reload the index from the database without blocking searches or writers
+     */
+    @PostConstruct
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            withWriteLock(() -> changesDuringRebuild = new ArrayList<>());
+
+            Postings fresh = new Postings();
+            boolean loaded = false;
+            try {
+                long lastId = 0;
+                List<TaskSearchRow> rows;
+                do {
+                    rows = taskRepository.findSearchRowsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                    for (TaskSearchRow row : rows) {
+                        fresh.add(row.getId(), row.getTitle(), row.getDescription(),
+                                row.getStatus(), row.getPriority(), row.getAssignedToId());
+                        lastId = row.getId();
+                    }
+                } while (rows.size() == REBUILD_BATCH_SIZE);
+                fresh.optimize();
+                loaded = true;
+            } finally {
+                // On failure keep serving the previous postings
+                boolean swap = loaded;
+                withWriteLock(() -> {
+                    if (swap) {
+                        changesDuringRebuild.forEach(change -> change.accept(fresh));
+                        postings = fresh;
+                    }
+                    changesDuringRebuild = null;
+                });
+            }
+
+            log.info("Task search index rebuilt: {} tasks, {} terms in {} ms", fresh.tasks.getLongCardinality(),
+                    fresh.titleTerms.size() + fresh.descriptionTerms.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Apply a committed task change to the index
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        withWriteLock(() -> {
+            postings.apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(fresh -> fresh.apply(event));
+            }
+        });
+    }
+
+    /**
+     * Move the assignee postings after a bulk reassignment
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        withWriteLock(() -> {
+            postings.reassign(event.fromUserId(), event.toUserId());
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(fresh -> fresh.reassign(event.fromUserId(), event.toUserId()));
+            }
+        });
+    }
+
+    /**
+     * Find matching task ids, best match first
+     *
+     * @param limit maximum number of ids to return
+     */
+    public List<Long> search(String query, TaskSearchFilter filter, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return postings.search(terms, filter, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("tasks", postings.tasks.getLongCardinality());
+            stats.put("titleTerms", postings.titleTerms.size());
+            stats.put("descriptionTerms", postings.descriptionTerms.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cased runs of letters and digits (combining marks included, so
+     * scripts such as Sinhala stay in one token)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean tokenChar = i < lower.length() && isTokenChar(lower.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isTokenChar(char c) {
+        if (Character.isLetterOrDigit(c)) {
+            return true;
+        }
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the tasks matching one query term in their title, with the term's idf weight
+     */
+    private record TitleMatch(Roaring64Bitmap ids, double idf) {
+    }
+
+    /**
+     * The index data; guarded by the enclosing lock
+     */
+    private static final class Postings {
+        private final TreeMap<String, Roaring64Bitmap> titleTerms = new TreeMap<>();
+        private final TreeMap<String, Roaring64Bitmap> descriptionTerms = new TreeMap<>();
+        private final Roaring64Bitmap tasks = new Roaring64Bitmap();
+        private final Map<TaskStatus, Roaring64Bitmap> byStatus = new EnumMap<>(TaskStatus.class);
+        private final Map<Priority, Roaring64Bitmap> byPriority = new EnumMap<>(Priority.class);
+        private final Map<Long, Roaring64Bitmap> byAssignee = new HashMap<>();
+
+        void apply(TaskChangedEvent event) {
+            if (event.before() != null) {
+                remove(event.before());
+            }
+            if (event.after() != null) {
+                TaskSnapshot task = event.after();
+                add(task.id(), task.title(), task.description(), task.status(), task.priority(), task.assignedToId());
+            }
+        }
+
+        void add(long id, String title, String description, TaskStatus status, Priority priority, Long assigneeId) {
+            tasks.addLong(id);
+            for (String term : tokenize(title)) {
+                titleTerms.computeIfAbsent(term, t -> new Roaring64Bitmap()).addLong(id);
+            }
+            for (String term : tokenize(description)) {
+                descriptionTerms.computeIfAbsent(term, t -> new Roaring64Bitmap()).addLong(id);
+            }
+            if (status != null) {
+                byStatus.computeIfAbsent(status, s -> new Roaring64Bitmap()).addLong(id);
+            }
+            if (priority != null) {
+                byPriority.computeIfAbsent(priority, p -> new Roaring64Bitmap()).addLong(id);
+            }
+            if (assigneeId != null) {
+                byAssignee.computeIfAbsent(assigneeId, a -> new Roaring64Bitmap()).addLong(id);
+            }
+        }
+
+        void remove(TaskSnapshot task) {
+            long id = task.id();
+            tasks.removeLong(id);
+            for (String term : tokenize(task.title())) {
+                removeFrom(titleTerms, term, id);
+            }
+            for (String term : tokenize(task.description())) {
+                removeFrom(descriptionTerms, term, id);
+            }
+            removeFrom(byStatus, task.status(), id);
+            removeFrom(byPriority, task.priority(), id);
+            removeFrom(byAssignee, task.assignedToId(), id);
+        }
+
+        void reassign(Long fromUserId, Long toUserId) {
+            Roaring64Bitmap moved = byAssignee.remove(fromUserId);
+            if (moved != null && toUserId != null) {
+                byAssignee.computeIfAbsent(toUserId, a -> new Roaring64Bitmap()).or(moved);
+            }
+        }
+
+        void optimize() {
+            titleTerms.values().forEach(Roaring64Bitmap::runOptimize);
+            descriptionTerms.values().forEach(Roaring64Bitmap::runOptimize);
+        }
+
+        List<Long> search(List<String> terms, TaskSearchFilter filter, int limit) {
+            Roaring64Bitmap candidates = filterCandidates(filter);
+            long totalTasks = Math.max(1, tasks.getLongCardinality());
+
+            List<TitleMatch> titleMatches = new ArrayList<>();
+            for (String term : terms) {
+                Roaring64Bitmap inTitle = expand(titleTerms, term);
+                Roaring64Bitmap anywhere = Roaring64Bitmap.or(inTitle, expand(descriptionTerms, term));
+                double idf = Math.log(1 + (double) totalTasks / (1 + anywhere.getLongCardinality()));
+                titleMatches.add(new TitleMatch(inTitle, idf));
+
+                if (candidates == null) {
+                    candidates = anywhere;
+                } else {
+                    candidates.and(anywhere);
+                }
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<TitleMatch> ranked = titleMatches.stream()
+                    .sorted(Comparator.comparingDouble(TitleMatch::idf).reversed())
+                    .limit(MAX_RANKED_TERMS)
+                    .toList();
+            return collectByTier(candidates, ranked, limit);
+        }
+
+        /**
+         * Walk tiers of candidates from the highest to the lowest title weight. A tier holds the
+         * candidates matching exactly one subset of the ranked terms in their title.
+         */
+        private List<Long> collectByTier(Roaring64Bitmap candidates, List<TitleMatch> ranked,
+                                         int limit) {
+            int subsets = 1 << ranked.size();
+            List<Integer> tiers = new ArrayList<>();
+            for (int subset = 0; subset < subsets; subset++) {
+                tiers.add(subset);
+            }
+            tiers.sort(Comparator.comparingDouble((Integer subset) -> weight(subset, ranked)).reversed());
+
+            List<Long> result = new ArrayList<>(Math.min(limit, (int) Math.min(Integer.MAX_VALUE, candidates.getLongCardinality())));
+            for (int subset : tiers) {
+                Roaring64Bitmap tier = candidates.clone();
+                for (int i = 0; i < ranked.size(); i++) {
+                    if ((subset & (1 << i)) != 0) {
+                        tier.and(ranked.get(i).ids());
+                    } else {
+                        tier.andNot(ranked.get(i).ids());
+                    }
+                }
+                LongIterator ids = tier.getReverseLongIterator();
+                while (ids.hasNext()) {
+                    result.add(ids.next());
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static double weight(int subset, List<TitleMatch> ranked) {
+            double weight = 0;
+            for (int i = 0; i < ranked.size(); i++) {
+                if ((subset & (1 << i)) != 0) {
+                    weight += ranked.get(i).idf();
+                }
+            }
+            return weight;
+        }
+
+        /**
+         * Ids of the filtered tasks, or null when nothing is filtered
+         */
+        private Roaring64Bitmap filterCandidates(TaskSearchFilter filter) {
+            Roaring64Bitmap candidates = null;
+            if (filter.assigneeId() != null) {
+                candidates = intersect(candidates, byAssignee.get(filter.assigneeId()));
+            }
+            if (filter.status() != null) {
+                candidates = intersect(candidates, byStatus.get(filter.status()));
+            }
+            if (filter.priority() != null) {
+                candidates = intersect(candidates, byPriority.get(filter.priority()));
+            }
+            return candidates;
+        }
+
+        private static Roaring64Bitmap intersect(Roaring64Bitmap candidates, Roaring64Bitmap ids) {
+            if (ids == null) {
+                return new Roaring64Bitmap();
+            }
+            if (candidates == null) {
+                return ids.clone();
+            }
+            candidates.and(ids);
+            return candidates;
+        }
+
+        /**
+         * Union of the postings of every term starting with the query term
+         */
+        private static Roaring64Bitmap expand(TreeMap<String, Roaring64Bitmap> terms, String term) {
+            if (term.length() < MIN_PREFIX_LENGTH) {
+                Roaring64Bitmap exact = terms.get(term);
+                return exact != null ? exact.clone() : new Roaring64Bitmap();
+            }
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            for (Roaring64Bitmap ids : terms.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                union.or(ids);
+            }
+            return union;
+        }
+
+        private static <K> void removeFrom(Map<K, Roaring64Bitmap> postings, K key, long id) {
+            if (key == null) {
+                return;
+            }
+            Roaring64Bitmap ids = postings.get(key);
+            if (ids != null) {
+                ids.removeLong(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.task_manager.backend.search;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of a "my tasks" view. Null fields are ignored; the due window is [dueFrom, dueBefore)
+ * and excludes tasks without a due date when either bound is set.
+ *
+ * @param openOnly only tasks that are not DONE
+ */
+public record UserTaskFilter(TaskStatus status, Priority priority,
+                             LocalDateTime dueFrom, LocalDateTime dueBefore, boolean openOnly) {
+
+    /**
+     * Check a task against the filters
+     */
+    public boolean matches(TaskStatus taskStatus, Priority taskPriority, LocalDateTime dueDate) {
+        if (status != null && taskStatus != status) {
+            return false;
+        }
+        if (priority != null && taskPriority != priority) {
+            return false;
+        }
+        if (openOnly && taskStatus == TaskStatus.DONE) {
+            return false;
+        }
+        if (dueFrom == null && dueBefore == null) {
+            return true;
+        }
+        return dueDate != null
+                && (dueFrom == null || !dueDate.isBefore(dueFrom))
+                && (dueBefore == null || dueDate.isBefore(dueBefore));
+    }
+}
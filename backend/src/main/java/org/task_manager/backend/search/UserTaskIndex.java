@@ -0,0 +1,400 @@
+package org.task_manager.backend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.event.TasksReassignedEvent;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.model.User;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory task lists per assignee, for the "my tasks" views sorted by due date.
+ * A user's tasks are loaded on first access and then kept in sync from committed task changes.
+ * Each user holds a set ordered by (dueDate, id) plus one such set per status and per priority,
+ * so a filtered page is a range walk over the narrowest set.
+ * <p>
+ * Users are evicted least recently used first once the estimated size passes the memory budget.
+ * Users with more than {@code maxTasksPerUser} tasks are not loaded and stay on the database.
+ */
+@Slf4j
+@Component
+public class UserTaskIndex {
+
+    // Rough per-task footprint: the row, its id map entry and three tree entries, excluding strings
+    private static final long TASK_OVERHEAD_BYTES = 320;
+    private static final long USER_OVERHEAD_BYTES = 1024;
+
+    // NULL due dates first, as MySQL sorts them ascending
+    private static final Comparator<TaskListRow> BY_DUE_DATE = Comparator
+            .comparing(TaskListRow::dueDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(TaskListRow::id);
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final long maxBytes;
+    private final int maxTasksPerUser;
+
+    // Access-ordered, so iteration starts at the least recently used user
+    private final LinkedHashMap<Long, UserTasks> users = new LinkedHashMap<>(16, 0.75f, true);
+    // Users being loaded, with the changes committed meanwhile
+    private final Map<Long, List<TaskChangedEvent>> loading = new HashMap<>();
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserTaskIndex(TaskRepository taskRepository,
+                         UserRepository userRepository,
+                         @Value("${app.tasks.user-index.max-bytes:67108864}") long maxBytes,
+                         @Value("${app.tasks.user-index.max-tasks-per-user:5000}") int maxTasksPerUser) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.maxBytes = maxBytes;
+        this.maxTasksPerUser = maxTasksPerUser;
+    }
+
+    /**
+     * Get a page of the user's tasks matching the filter, ordered by due date then id.
+     * Empty when the user's tasks cannot be served from memory and the caller should query the database.
+     */
+    public Optional<Page<TaskListRow>> findPage(Long userId, UserTaskFilter filter, boolean ascending, Pageable pageable) {
+        UserTasks tasks = acquire(userId);
+        if (tasks == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            List<TaskListRow> content = new ArrayList<>(pageable.isPaged() ? pageable.getPageSize() : 16);
+            long total = 0;
+            for (TaskListRow row : tasks.candidates(filter, ascending)) {
+                if (!filter.matches(row.status(), row.priority(), row.dueDate())) {
+                    continue;
+                }
+                if (pageable.isUnpaged() || (total >= pageable.getOffset() && content.size() < pageable.getPageSize())) {
+                    content.add(row);
+                }
+                total++;
+            }
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        }
+    }
+
+    /**
+     * Summarize the user's tasks matching the filter like {@code TaskRepository.findSetVersion}.
+     * Empty when the user's tasks cannot be served from memory.
+     */
+    public Optional<TaskSetVersion> findSetVersion(Long userId, UserTaskFilter filter) {
+        UserTasks tasks = acquire(userId);
+        if (tasks == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            long count = 0;
+            long versionSum = 0;
+            LocalDateTime lastUpdatedAt = null;
+            for (TaskListRow row : tasks.candidates(filter, true)) {
+                if (!filter.matches(row.status(), row.priority(), row.dueDate())) {
+                    continue;
+                }
+                count++;
+                versionSum += row.version() != null ? row.version() : 0;
+                if (row.updatedAt() != null && (lastUpdatedAt == null || row.updatedAt().isAfter(lastUpdatedAt))) {
+                    lastUpdatedAt = row.updatedAt();
+                }
+            }
+            return Optional.of(new TaskSetVersion(count, count == 0 ? null : versionSum, lastUpdatedAt,
+                    count == 0 ? null : tasks.userUpdatedAt));
+        }
+    }
+
+    /**
+     * Apply a committed task change to the users it touches
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        Long from = event.before() != null ? event.before().assignedToId() : null;
+        Long to = event.after() != null ? event.after().assignedToId() : null;
+        if (from != null) {
+            applyTo(from, event);
+        }
+        if (to != null && !to.equals(from)) {
+            applyTo(to, event);
+        }
+        evictOverBudget();
+    }
+
+    /**
+     * Drop both users after a bulk reassignment; they are reloaded on next access
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        evict(event.fromUserId());
+        if (event.toUserId() != null) {
+            evict(event.toUserId());
+        }
+    }
+
+    /**
+     * Drop a user's tasks, for changes that bypass task events such as a username change
+     */
+    public synchronized void evict(Long userId) {
+        UserTasks removed = users.remove(userId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+        // A load in flight may have read the old state, so it is discarded
+        if (loading.containsKey(userId)) {
+            loading.put(userId, null);
+        }
+    }
+
+    /**
+     * Drop a user's tasks once the current transaction commits, so a reload cannot read the old state
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        long indexedTasks = users.values().stream().mapToLong(tasks -> tasks.byId.size()).sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", users.size());
+        stats.put("tasks", indexedTasks);
+        stats.put("estimatedBytes", totalBytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    /**
+     * Get the user's tasks, loading them on first access. Null when they are not kept in memory.
+     */
+    private UserTasks acquire(Long userId) {
+        synchronized (this) {
+            UserTasks tasks = users.get(userId);
+            if (tasks != null) {
+                hits.increment();
+                return tasks.oversized ? null : tasks;
+            }
+            misses.increment();
+            if (loading.containsKey(userId)) {
+                // Another request is loading this user
+                return null;
+            }
+            loading.put(userId, new ArrayList<>());
+        }
+
+        UserTasks loaded = null;
+        try {
+            loaded = load(userId);
+        } finally {
+            synchronized (this) {
+                List<TaskChangedEvent> pending = loading.remove(userId);
+                // A null list means the user was evicted during the load, so the rows may be stale
+                if (loaded != null && pending != null) {
+                    for (TaskChangedEvent event : pending) {
+                        loaded.apply(event, userId);
+                    }
+                    loaded.bytes = loaded.estimateBytes();
+                    users.put(userId, loaded);
+                    totalBytes += loaded.bytes;
+                    evictOverBudget();
+                }
+            }
+        }
+        return loaded != null && !loaded.oversized ? loaded : null;
+    }
+
+    private UserTasks load(Long userId) {
+        if (taskRepository.countByAssignedToId(userId) > maxTasksPerUser) {
+            // Remembered so the count is not repeated on every request
+            return UserTasks.oversized();
+        }
+        List<TaskListRow> rows = taskRepository.findListRowsByAssignedToId(userId);
+        // Read even when the rows carry the username: list ETags served from memory need its update time
+        Optional<User> user = userRepository.findById(userId);
+
+        UserTasks tasks = new UserTasks(user.map(User::getUsername).orElse(null),
+                user.map(User::getUpdatedAt).orElse(null));
+        rows.forEach(tasks::put);
+        return tasks;
+    }
+
+    private void applyTo(Long userId, TaskChangedEvent event) {
+        if (loading.containsKey(userId)) {
+            List<TaskChangedEvent> pending = loading.get(userId);
+            if (pending != null) {
+                pending.add(event);
+            }
+            return;
+        }
+        UserTasks tasks = users.get(userId);
+        if (tasks == null) {
+            return;
+        }
+        totalBytes -= tasks.bytes;
+        if (tasks.oversized) {
+            // Re-checked against the limit on next access
+            users.remove(userId);
+            return;
+        }
+        tasks.apply(event, userId);
+        tasks.bytes = tasks.estimateBytes();
+        totalBytes += tasks.bytes;
+    }
+
+    private void evictOverBudget() {
+        Iterator<UserTasks> eldest = users.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * One user's tasks. Guarded by the index monitor.
+     */
+    private static final class UserTasks {
+
+        private final String username;
+        // When the user was last updated as loaded, standing in for the assignee part of the set version
+        private final LocalDateTime userUpdatedAt;
+        private final boolean oversized;
+        private final Map<Long, TaskListRow> byId = new HashMap<>();
+        private final NavigableSet<TaskListRow> byDueDate = new TreeSet<>(BY_DUE_DATE);
+        private final Map<TaskStatus, NavigableSet<TaskListRow>> byStatus = new EnumMap<>(TaskStatus.class);
+        private final Map<Priority, NavigableSet<TaskListRow>> byPriority = new EnumMap<>(Priority.class);
+        private long stringBytes;
+        private long bytes;
+
+        private UserTasks(String username, LocalDateTime userUpdatedAt) {
+            this(username, userUpdatedAt, false);
+        }
+
+        private UserTasks(String username, LocalDateTime userUpdatedAt, boolean oversized) {
+            this.username = username;
+            this.userUpdatedAt = userUpdatedAt;
+            this.oversized = oversized;
+        }
+
+        static UserTasks oversized() {
+            UserTasks marker = new UserTasks(null, null, true);
+            marker.bytes = USER_OVERHEAD_BYTES;
+            return marker;
+        }
+
+        /**
+         * The narrowest set that can hold the filter's matches, limited to the due window
+         */
+        Iterable<TaskListRow> candidates(UserTaskFilter filter, boolean ascending) {
+            NavigableSet<TaskListRow> set = byDueDate;
+            if (filter.status() != null) {
+                set = byStatus.getOrDefault(filter.status(), new TreeSet<>(BY_DUE_DATE));
+            } else if (filter.priority() != null) {
+                set = byPriority.getOrDefault(filter.priority(), new TreeSet<>(BY_DUE_DATE));
+            }
+            if (filter.dueFrom() != null) {
+                set = set.tailSet(probe(filter.dueFrom(), Long.MIN_VALUE), true);
+            }
+            if (filter.dueBefore() != null) {
+                set = set.headSet(probe(filter.dueBefore(), Long.MIN_VALUE), false);
+            }
+            return ascending ? set : set.descendingSet();
+        }
+
+        void apply(TaskChangedEvent event, Long userId) {
+            if (event.before() != null) {
+                remove(event.before().id());
+            }
+            TaskSnapshot after = event.after();
+            if (after != null && userId.equals(after.assignedToId())) {
+                put(new TaskListRow(after.id(), after.title(), after.description(), after.status(),
+                        after.priority(), after.dueDate(), after.creationDate(), after.updatedAt(),
+                        after.completedAt(), after.version(), after.assignedToId(), username));
+            }
+        }
+
+        void put(TaskListRow row) {
+            remove(row.id());
+            byId.put(row.id(), row);
+            byDueDate.add(row);
+            if (row.status() != null) {
+                byStatus.computeIfAbsent(row.status(), status -> new TreeSet<>(BY_DUE_DATE)).add(row);
+            }
+            if (row.priority() != null) {
+                byPriority.computeIfAbsent(row.priority(), priority -> new TreeSet<>(BY_DUE_DATE)).add(row);
+            }
+            stringBytes += stringBytes(row);
+        }
+
+        void remove(Long id) {
+            TaskListRow row = byId.remove(id);
+            if (row == null) {
+                return;
+            }
+            byDueDate.remove(row);
+            if (row.status() != null) {
+                byStatus.get(row.status()).remove(row);
+            }
+            if (row.priority() != null) {
+                byPriority.get(row.priority()).remove(row);
+            }
+            stringBytes -= stringBytes(row);
+        }
+
+        long estimateBytes() {
+            return USER_OVERHEAD_BYTES + byId.size() * TASK_OVERHEAD_BYTES + stringBytes;
+        }
+
+        private static long stringBytes(TaskListRow row) {
+            return (row.title() != null ? row.title().length() + 40 : 0)
+                    + (row.description() != null ? row.description().length() + 40 : 0);
+        }
+
+        private static TaskListRow probe(LocalDateTime dueDate, long id) {
+            return new TaskListRow(id, null, null, null, null, dueDate, null, null, null, null, null, null);
+        }
+    }
+}
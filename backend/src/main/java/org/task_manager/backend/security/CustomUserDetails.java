@@ -17,11 +17,11 @@ public class CustomUserDetails implements UserDetails {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
 
-        if (user.getRole() == null || user.getRole().name == null) {
+        if (user.getRole() == null || user.getRole().getName() == null) {
             throw new IllegalStateException("User role not found for user: " + user.getUsername());
         }
 
-        String roleName = user.getRole().name.name();
+        String roleName = user.getRole().getName().name();
         return Collections.singleton(new SimpleGrantedAuthority("ROLE_" + roleName));
     }
 
@@ -1,41 +1,95 @@
 package org.task_manager.backend.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.task_manager.backend.dto.AdminTaskDto;
 import org.task_manager.backend.dto.AdminUserDto;
 import org.task_manager.backend.dto.CreateUserDto;
+import org.task_manager.backend.dto.CursorPageDto;
+import org.task_manager.backend.dto.DepartmentAnalyticsReportDto;
 import org.task_manager.backend.dto.UpdateUserDto;
+import org.task_manager.backend.dto.UserDeletionJobDto;
 import org.task_manager.backend.dto.UserResponseDto;
 import org.task_manager.backend.exception.InvalidOperationException;
 import org.task_manager.backend.model.*;
 import org.task_manager.backend.repository.RoleRepository;
+import org.task_manager.backend.repository.TaskBrowseFilter;
 import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.TaskSortKey;
 import org.task_manager.backend.repository.UserRepository;
 import org.task_manager.backend.repository.UserSettingsRepository;
+import org.task_manager.backend.repository.projection.AdminUserView;
+import org.task_manager.backend.repository.projection.TaskExportRow;
+import org.task_manager.backend.repository.projection.UserTaskCount;
+import org.task_manager.backend.search.TaskSearchIndex;
+import org.task_manager.backend.search.UserTaskIndex;
 import org.task_manager.backend.security.SecurityService;
+import org.task_manager.backend.stats.ActiveUserCount;
+import org.task_manager.backend.stats.DashboardEventStream;
+import org.task_manager.backend.stats.DashboardStatsCache;
+import org.task_manager.backend.stats.TaskCounterStore;
+import org.task_manager.backend.stats.TaskCounts;
+import org.task_manager.backend.stats.UserActivityRollup;
+import org.task_manager.backend.stats.UserAnalyticsCache;
+import org.task_manager.backend.stats.UserDailyStatsRollup;
+import org.task_manager.backend.util.CsvUtil;
+import org.task_manager.backend.util.KeysetCursor;
+import org.task_manager.backend.util.KeysetPageUtil;
+import org.task_manager.backend.util.TimeRangeUtil;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.DayOfWeek;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<Integer> ACTIVITY_WINDOWS = Set.of(7, 30, 90, 365);
+    private static final Set<String> USER_SORT_FIELDS = Set.of("id", "username", "email", "department", "createdAt");
+
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final RoleRepository roleRepository;
     private final UserSettingsRepository userSettingsRepository;
     private final PasswordEncoder passwordEncoder;
     private final SecurityService securityService;
+    private final TaskCounterStore taskCounterStore;
+    private final UserActivityRollup userActivityRollup;
+    private final UserDailyStatsRollup userDailyStatsRollup;
+    private final UserAnalyticsCache userAnalyticsCache;
+    private final UserAnalyticsService userAnalyticsService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DashboardEventStream dashboardEventStream;
+    private final UserDeletionService userDeletionService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final UserTaskIndex userTaskIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
     public long getTotalUsers() {
         return userRepository.count();
@@ -46,89 +100,218 @@ public class AdminService {
     }
 
     public Map<String, Long> getTaskStatusCounts() {
-        Map<String, Long> statusCounts = new HashMap<>();
-
         try {
-            List<Task> allTasks = taskRepository.findAll();
-            statusCounts.put("PENDING", allTasks.stream().filter(t -> t.getStatus() == TaskStatus.TODO).count());
-            statusCounts.put("IN_PROGRESS", allTasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS).count());
-            statusCounts.put("COMPLETED", allTasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count());
+            return loadTaskCounts().dashboardStatusCounts();
         } catch (Exception e) {
-            statusCounts.put("PENDING", 0L);
-            statusCounts.put("IN_PROGRESS", 0L);
-            statusCounts.put("COMPLETED", 0L);
+            return TaskCounts.from(List.of()).dashboardStatusCounts();
         }
-
-        return statusCounts;
     }
 
     public Map<String, Long> getTaskPriorityCounts() {
-        Map<String, Long> priorityCounts = new HashMap<>();
-
         try {
-            List<Task> allTasks = taskRepository.findAll();
-            priorityCounts.put("HIGH", allTasks.stream().filter(t -> t.getPriority() == Priority.HIGH).count());
-            priorityCounts.put("MEDIUM", allTasks.stream().filter(t -> t.getPriority() == Priority.MEDIUM).count());
-            priorityCounts.put("LOW", allTasks.stream().filter(t -> t.getPriority() == Priority.LOW).count());
+            return loadTaskCounts().dashboardPriorityCounts();
         } catch (Exception e) {
-            priorityCounts.put("HIGH", 0L);
-            priorityCounts.put("MEDIUM", 0L);
-            priorityCounts.put("LOW", 0L);
+            return TaskCounts.from(List.of()).dashboardPriorityCounts();
         }
+    }
 
-        return priorityCounts;
+    /**
+     * Read task counts straight from the database in one aggregate query
+     */
+    public TaskCounts loadTaskCounts() {
+        LocalDateTime now = LocalDateTime.now();
+        return TaskCounts.from(taskRepository.countByStatusAndPriority(now, TimeRangeUtil.getStartOfWeek(now)));
     }
 
     public List<AdminUserDto> getAllUsers() {
-        List<Task> allTasks = taskRepository.findAll();
-        
-        return userRepository.findAll().stream()
-                .map(user -> {
-                    long completedTasks = allTasks.stream()
-                            .filter(task -> task.getAssignedTo() != null && 
-                                       task.getAssignedTo().getId().equals(user.getId()) &&
-                                       task.getStatus() == TaskStatus.DONE)
-                            .count();
-                    
-                    return new AdminUserDto(
-                            user.getId(),
-                            user.getUsername(),
-                            user.getEmail(),
-                            user.getRole().getName().toString(),
-                            completedTasks,
-                            user.getCreatedAt()
-                    );
-                })
+        Map<Long, UserTaskCount> taskCounts = taskRepository.countTasksGroupedByAssignee().stream()
+                .collect(Collectors.toMap(UserTaskCount::getUserId, Function.identity()));
+
+        return userRepository.findAdminUsers(null, null, Pageable.unpaged()).stream()
+                .map(user -> toAdminUserDto(user, taskCounts.get(user.getId())))
                 .collect(Collectors.toList());
     }
 
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    /**
+     * Get one page of users for the admin listing, with task counts for that page only
+     */
+    @Transactional(readOnly = true)
+    public Page<AdminUserDto> getUsersPage(int page, int size, String sortBy, String sortDir,
+                                           String role, String department) {
+        if (!USER_SORT_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Cannot sort users by: " + sortBy);
+        }
+        RoleName roleName = null;
+        if (role != null && !role.trim().isEmpty()) {
+            roleName = RoleName.valueOf(role.trim().toUpperCase());
+        }
+        String departmentFilter = department != null && !department.trim().isEmpty() ? department.trim() : null;
+
+        Sort sort = sortDir.equalsIgnoreCase(Sort.Direction.ASC.name())
+                ? Sort.by(sortBy).ascending()
+                : Sort.by(sortBy).descending();
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE), sort);
+
+        Page<AdminUserView> users = userRepository.findAdminUsers(roleName, departmentFilter, pageable);
+        List<Long> userIds = users.map(AdminUserView::getId).getContent();
+        Map<Long, UserTaskCount> taskCounts = userIds.isEmpty() ? Map.of()
+                : taskRepository.countTasksByAssignees(userIds).stream()
+                        .collect(Collectors.toMap(UserTaskCount::getUserId, Function.identity()));
+
+        return users.map(user -> toAdminUserDto(user, taskCounts.get(user.getId())));
+    }
+
+    private AdminUserDto toAdminUserDto(AdminUserView user, UserTaskCount taskCount) {
+        return new AdminUserDto(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole().toString(),
+                taskCount != null ? taskCount.getCompleted() : 0L,
+                taskCount != null ? taskCount.getTotal() : 0L,
+                user.getDepartment(),
+                user.getCreatedAt()
+        );
+    }
+
+    /**
+     * Browse tasks one keyset page at a time, ordered by (sortBy, id).
+     * When a cursor is given it carries the sort, and sortBy/sortDir are ignored.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<AdminTaskDto> browseTasks(TaskStatus status, Priority priority, Long assigneeId,
+                                                   String department, LocalDate dueFrom, LocalDate dueTo,
+                                                   String sortBy, String sortDir, String cursor, int size) {
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+        TaskSortKey sortKey = TaskSortKey.fromAttribute(after != null ? after.sortKey() : sortBy);
+        boolean ascending = after != null ? after.ascending() : "asc".equalsIgnoreCase(sortDir);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        TaskBrowseFilter filter = new TaskBrowseFilter(status, priority, assigneeId,
+                department != null && !department.isBlank() ? department.trim() : null,
+                dueFrom != null ? dueFrom.atStartOfDay() : null,
+                dueTo != null ? dueTo.plusDays(1).atStartOfDay() : null);
+
+        List<AdminTaskDto> rows = taskRepository.browse(filter, sortKey,
+                after != null ? after.readAscending() : ascending, after, pageSize + 1);
+        return KeysetPageUtil.toPage(rows, pageSize, after, sortKey.attribute(), ascending,
+                task -> sortValue(task, sortKey), AdminTaskDto::getId, Function.identity());
+    }
+
+    private LocalDateTime sortValue(AdminTaskDto task, TaskSortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> null;
+            case CREATION_DATE -> task.getCreationDate();
+            case UPDATED_AT -> task.getUpdatedAt();
+            case DUE_DATE -> task.getDueDate();
+        };
     }
 
     public Map<String, Object> getDashboardStats() {
-        List<Task> allTasks = taskRepository.findAll();
+        return dashboardStatsCache.get(this::computeDashboardStats);
+    }
+
+    public Map<String, Object> getDashboardStatsCacheMetrics() {
+        Map<String, Object> metrics = new HashMap<>(dashboardStatsCache.getMetrics());
+        metrics.put("streamSubscribers", dashboardEventStream.getSubscriberCount());
+        return metrics;
+    }
+
+    /**
+     * Hit ratio of every second-level cache region and of the query cache
+     */
+    public Map<String, Object> getEntityCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, cacheCounts(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("regions", regions);
+        stats.put("queryCache", cacheCounts(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        stats.put("statisticsSince", statistics.getStart());
+        return stats;
+    }
+
+    private Map<String, Object> cacheCounts(long hits, long misses, long puts) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        counts.put("hitRatio", hits + misses == 0 ? 0.0 : hits / (double) (hits + misses));
+        return counts;
+    }
+
+    public Map<String, Object> getSearchIndexStats() {
+        return taskSearchIndex.getStats();
+    }
+
+    public Map<String, Object> getUserTaskIndexStats() {
+        return userTaskIndex.getStats();
+    }
+
+    /**
+     * Reload the task search index from the database
+     */
+    public Map<String, Object> rebuildSearchIndex() {
+        taskSearchIndex.rebuild();
+        return taskSearchIndex.getStats();
+    }
+
+    /**
+     * Recompute the analytics daily stats rollup from the tasks
+     */
+    public Map<String, Object> rebuildDailyStats() {
+        Map<String, Object> result = userDailyStatsRollup.rebuild();
+        userAnalyticsCache.clear();
+        return result;
+    }
+
+    public Map<String, Object> getUserAnalyticsCacheStats() {
+        return userAnalyticsCache.getStats();
+    }
+
+    public DepartmentAnalyticsReportDto getDepartmentAnalytics(String range, String groupBy) {
+        return userAnalyticsService.getDepartmentAnalytics(range, groupBy);
+    }
+
+    /**
+     * Subscribe to live dashboard counter deltas
+     */
+    public SseEmitter subscribeToDashboardStats(Long intervalMs) {
+        return dashboardEventStream.subscribe(intervalMs);
+    }
+
+    private Map<String, Object> computeDashboardStats() {
+        TaskCounts counts = taskCounterStore.snapshot();
         
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalUsers", getTotalUsers());
-        stats.put("totalTasks", getTotalTasks());
-        stats.put("taskStatusCounts", getTaskStatusCounts());
-        stats.put("taskPriorityCounts", getTaskPriorityCounts());
+        stats.put("totalTasks", counts.total());
+        stats.put("taskStatusCounts", counts.dashboardStatusCounts());
+        stats.put("taskPriorityCounts", counts.dashboardPriorityCounts());
         
         // Calculate completion rate
-        stats.put("completionRate", calculateCompletionRate(allTasks));
+        stats.put("completionRate", calculateCompletionRate(counts.completed(), counts.total()));
         
         // Count active users (users with activity in last 7 days)
-        stats.put("activeUsers", countActiveUsers(allTasks));
+        stats.put("activeUsers", countActiveUsers());
+        stats.put("activeUsersByWindow", countActiveUsersByWindow());
         
         // Count tasks created this week
-        stats.put("tasksThisWeek", countTasksThisWeek(allTasks));
+        stats.put("tasksThisWeek", counts.createdThisWeek());
         
         // Count overdue tasks
-        stats.put("overdueTasks", countOverdueTasks(allTasks));
+        stats.put("overdueTasks", counts.overdue());
         
         // User activity data for the last 7 days
-        stats.put("activityData", getUserActivityData());
+        stats.put("activityData", getUserActivityData(7));
         
         return stats;
     }
@@ -136,126 +319,75 @@ public class AdminService {
     /**
      * Calculate overall task completion rate as percentage
      */
-    private double calculateCompletionRate(List<Task> allTasks) {
-        if (allTasks.isEmpty()) {
+    private double calculateCompletionRate(long completedTasks, long totalTasks) {
+        if (totalTasks == 0) {
             return 0.0;
         }
         
-        long completedTasks = allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                .count();
-        
-        return Math.round((completedTasks * 100.0 / allTasks.size()) * 10.0) / 10.0;
+        return Math.round((completedTasks * 100.0 / totalTasks) * 10.0) / 10.0;
     }
 
     /**
-     * Count users who have created or been assigned tasks in the last 7 days
+     * Count users who had task activity in the last 7 days (including today)
      */
-    private int countActiveUsers(List<Task> allTasks) {
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        Set<Long> activeUserIds = new HashSet<>();
-        
-        for (Task task : allTasks) {
-            // Check if task was created in last 7 days
-            if (task.getCreationDate() != null && task.getCreationDate().isAfter(sevenDaysAgo)) {
-                if (task.getAssignedTo() != null) {
-                    activeUserIds.add(task.getAssignedTo().getId());
-                }
-            }
-            
-            // Check if task was updated in last 7 days
-            if (task.getUpdatedAt() != null && task.getUpdatedAt().isAfter(sevenDaysAgo)) {
-                if (task.getAssignedTo() != null) {
-                    activeUserIds.add(task.getAssignedTo().getId());
-                }
-            }
-        }
-        
-        return activeUserIds.size();
+    private long countActiveUsers() {
+        LocalDate today = LocalDate.now();
+        return userActivityRollup.countActiveUsers(today.minusDays(6), today);
     }
 
     /**
-     * Count tasks created this week (Monday to Sunday)
+     * Distinct active users over each longer window; 365 days is a sketch estimate
      */
-    private long countTasksThisWeek(List<Task> allTasks) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfWeek = now.with(DayOfWeek.MONDAY).withHour(0).withMinute(0).withSecond(0).withNano(0);
-        
-        return allTasks.stream()
-                .filter(t -> t.getCreationDate() != null)
-                .filter(t -> t.getCreationDate().isAfter(startOfWeek) || t.getCreationDate().isEqual(startOfWeek))
-                .count();
+    private Map<String, Long> countActiveUsersByWindow() {
+        LocalDate today = LocalDate.now();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int days : List.of(30, 90, 365)) {
+            counts.put(days + "d", userActivityRollup.countActiveUsers(today.minusDays(days - 1), today));
+        }
+        return counts;
     }
 
     /**
-     * Count tasks that are overdue (past due date and not completed)
+     * Get user activity for the last 7, 30, 90 or 365 days
+     * Returns the distinct active user count for the window and the daily active/inactive series.
+     * The 365 day count is a HyperLogLog estimate rather than an exact bitmap count
      */
-    private long countOverdueTasks(List<Task> allTasks) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        return allTasks.stream()
-                .filter(t -> t.getDueDate() != null)
-                .filter(t -> t.getDueDate().isBefore(now))
-                .filter(t -> t.getStatus() != TaskStatus.DONE)
-                .count();
+    public Map<String, Object> getUserActivity(int days) {
+        if (!ACTIVITY_WINDOWS.contains(days)) {
+            throw new IllegalArgumentException("Activity window must be 7, 30, 90 or 365 days");
+        }
+        LocalDate today = LocalDate.now();
+        ActiveUserCount activeUsers = userActivityRollup.countActiveUsersBetween(today.minusDays(days - 1), today);
+
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("days", days);
+        activity.put("totalUsers", getTotalUsers());
+        activity.put("activeUsers", activeUsers.count());
+        activity.put("exact", activeUsers.exact());
+        activity.put("relativeStandardError", activeUsers.relativeStandardError());
+        activity.put("series", getUserActivityData(days));
+        return activity;
     }
 
     /**
-     * Get user activity data for the last 7 days
+     * Get user activity data for the last N days
      * Returns array of daily active/inactive user counts
      */
-    private List<Map<String, Object>> getUserActivityData() {
+    private List<Map<String, Object>> getUserActivityData(int days) {
         List<Map<String, Object>> activityData = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        List<User> allUsers = userRepository.findAll();
-        List<Task> allTasks = taskRepository.findAll();
+        LocalDate today = LocalDate.now();
+        long totalUsers = getTotalUsers();
+        DateTimeFormatter labelFormat = DateTimeFormatter.ofPattern(days <= 7 ? "EEE" : "MMM d", Locale.ENGLISH);
         
-        // Last 7 days
-        for (int i = 6; i >= 0; i--) {
-            LocalDateTime dayStart = now.minusDays(i).toLocalDate().atStartOfDay();
-            LocalDateTime dayEnd = dayStart.plusDays(1);
-            
-            // Get day name (Mon, Tue, etc)
-            String dayName = dayStart.getDayOfWeek().toString().substring(0, 3);
-            dayName = dayName.charAt(0) + dayName.substring(1).toLowerCase();
-            
-            // Count users who had task activity on this day
-            Set<Long> activeUserIds = new HashSet<>();
-            for (Task task : allTasks) {
-                // Check if task was created, updated, started, or completed on this day
-                if (task.getCreationDate() != null && 
-                    task.getCreationDate().isAfter(dayStart) && 
-                    task.getCreationDate().isBefore(dayEnd) &&
-                    task.getAssignedTo() != null) {
-                    activeUserIds.add(task.getAssignedTo().getId());
-                }
-                if (task.getUpdatedAt() != null && 
-                    task.getUpdatedAt().isAfter(dayStart) && 
-                    task.getUpdatedAt().isBefore(dayEnd) &&
-                    task.getAssignedTo() != null) {
-                    activeUserIds.add(task.getAssignedTo().getId());
-                }
-                if (task.getStartedAt() != null && 
-                    task.getStartedAt().isAfter(dayStart) && 
-                    task.getStartedAt().isBefore(dayEnd) &&
-                    task.getAssignedTo() != null) {
-                    activeUserIds.add(task.getAssignedTo().getId());
-                }
-                if (task.getCompletedAt() != null && 
-                    task.getCompletedAt().isAfter(dayStart) && 
-                    task.getCompletedAt().isBefore(dayEnd) &&
-                    task.getAssignedTo() != null) {
-                    activeUserIds.add(task.getAssignedTo().getId());
-                }
-            }
-            
-            int activeCount = activeUserIds.size();
-            int inactiveCount = allUsers.size() - activeCount;
+        for (int i = days - 1; i >= 0; i--) {
+            LocalDate day = today.minusDays(i);
+            long activeCount = userActivityRollup.countActiveUsers(day);
             
             Map<String, Object> dayData = new HashMap<>();
-            dayData.put("name", dayName);
+            dayData.put("name", day.format(labelFormat));
+            dayData.put("date", day);
             dayData.put("active", activeCount);
-            dayData.put("inactive", inactiveCount);
+            dayData.put("inactive", Math.max(0, totalUsers - activeCount));
             
             activityData.add(dayData);
         }
@@ -263,19 +395,31 @@ public class AdminService {
         return activityData;
     }
 
-    public String generateCsvReport() {
-        List<Task> tasks = getAllTasks();
-        StringBuilder csv = new StringBuilder("ID,Title,Status,Priority,AssignedTo\n");
-        for (Task task : tasks) {
-            String assignedUsername = task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : "Unassigned";
-            csv.append(task.getId()).append(",")
-                    .append(task.getTitle()).append(",")
-                    .append(task.getStatus()).append(",")
-                    .append(task.getPriority()).append(",")
-                    .append(assignedUsername)
-                    .append("\n");
+    /**
+     * Stream the task report as CSV to the given output, optionally filtered.
+     * Rows are read through a forward-only cursor and written as they arrive,
+     * so memory use does not grow with the number of tasks.
+     * @return number of data rows written
+     */
+    @Transactional(readOnly = true)
+    public long writeCsvReport(Writer writer, TaskStatus status, Priority priority, LocalDate fromDate, LocalDate toDate)
+            throws IOException {
+        LocalDateTime from = fromDate != null ? fromDate.atStartOfDay() : null;
+        LocalDateTime to = toDate != null ? toDate.plusDays(1).atStartOfDay() : null;
+
+        CsvUtil.writeRow(writer, "ID", "Title", "Status", "Priority", "AssignedTo");
+        long rows = 0;
+        try (Stream<TaskExportRow> tasks = taskRepository.streamForExport(status, priority, from, to)) {
+            Iterator<TaskExportRow> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskExportRow task = iterator.next();
+                String assignedUsername = task.getAssignedToUsername() != null ? task.getAssignedToUsername() : "Unassigned";
+                CsvUtil.writeRow(writer, task.getId(), task.getTitle(), task.getStatus(), task.getPriority(), assignedUsername);
+                rows++;
+            }
         }
-        return csv.toString();
+        writer.flush();
+        return rows;
     }
 
     /**
@@ -316,6 +460,7 @@ public class AdminService {
         // Create default user settings
         UserSettings userSettings = new UserSettings(savedUser);
         userSettingsRepository.save(userSettings);
+        dashboardStatsCache.invalidate();
         
         // Return DTO
         return new AdminUserDto(
@@ -359,6 +504,15 @@ public class AdminService {
         Role role = roleRepository.findByName(roleName)
                 .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
         
+        // Indexed task rows carry the assignee's username
+        if (!user.getUsername().equals(updateUserDto.getName())) {
+            userTaskIndex.evictAfterCommit(user.getId());
+        }
+        // Cached analytics carry the username and email
+        if (!user.getUsername().equals(updateUserDto.getName()) || !user.getEmail().equals(updateUserDto.getEmail())) {
+            userAnalyticsCache.invalidateAfterCommit(user.getId());
+        }
+
         // Update user fields
         user.setUsername(updateUserDto.getName());
         user.setEmail(updateUserDto.getEmail());
@@ -369,11 +523,9 @@ public class AdminService {
         User updatedUser = userRepository.save(user);
         
         // Count completed tasks for this user
-        long completedTasks = taskRepository.findAll().stream()
-                .filter(t -> t.getAssignedTo() != null && 
-                            t.getAssignedTo().getId().equals(updatedUser.getId()) &&
-                            t.getStatus() == TaskStatus.DONE)
-                .count();
+        long completedTasks = taskRepository.countTasksByAssignees(List.of(updatedUser.getId())).stream()
+                .mapToLong(UserTaskCount::getCompleted)
+                .sum();
         
         // Return DTO
         return new AdminUserDto(
@@ -387,35 +539,51 @@ public class AdminService {
     }
 
     /**
-     * Delete a user (Admin functionality)
+     * Delete a user (Admin functionality).
+     * Their tasks are handed over to reassignToUserId, or unassigned when it is null.
      */
     @Transactional
-    public void deleteUser(Long userId) {
-        // Find user
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        
+    public void deleteUser(Long userId, Long reassignToUserId) {
+        User target = validateUserDeletion(userId, reassignToUserId);
+        userDeletionService.deleteUser(userId, target);
+    }
+
+    /**
+     * Delete a user in the background, for users with many tasks
+     */
+    @Transactional(readOnly = true)
+    public UserDeletionJobDto startUserDeletion(Long userId, Long reassignToUserId) {
+        User target = validateUserDeletion(userId, reassignToUserId);
+        return userDeletionService.startDeletion(userId, target);
+    }
+
+    /**
+     * Get the progress of a background user deletion
+     */
+    public UserDeletionJobDto getUserDeletionJob(String jobId) {
+        return userDeletionService.getJob(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown deletion job: " + jobId));
+    }
+
+    private User validateUserDeletion(Long userId, Long reassignToUserId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+
         // Prevent admin from deleting themselves
         User currentUser = securityService.getCurrentUser();
         if (currentUser != null && currentUser.getId().equals(userId)) {
             throw InvalidOperationException.cannotDelete("user", "You cannot delete your own account");
         }
-        
-        // Delete user settings first
-        userSettingsRepository.findByUser(user).ifPresent(userSettingsRepository::delete);
-        
-        // Unassign all tasks from this user (set assignedTo to null)
-        List<Task> userTasks = taskRepository.findAll().stream()
-                .filter(t -> t.getAssignedTo() != null && t.getAssignedTo().getId().equals(userId))
-                .toList();
-        
-        for (Task task : userTasks) {
-            task.setAssignedTo(null);
-            taskRepository.save(task);
+
+        if (reassignToUserId == null) {
+            return null;
         }
-        
-        // Delete user
-        userRepository.delete(user);
+        if (reassignToUserId.equals(userId)) {
+            throw InvalidOperationException.cannotDelete("user", "Tasks cannot be reassigned to the user being deleted");
+        }
+        return userRepository.findById(reassignToUserId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + reassignToUserId));
     }
 
     /**
@@ -452,10 +620,13 @@ public class AdminService {
         if (updates.containsKey("name")) {
             currentUser.setUsername((String) updates.get("name"));
             userRepository.save(currentUser);
+            userTaskIndex.evictAfterCommit(currentUser.getId());
+            userAnalyticsCache.invalidateAfterCommit(currentUser.getId());
         }
         if (updates.containsKey("email")) {
             currentUser.setEmail((String) updates.get("email"));
             userRepository.save(currentUser);
+            userAnalyticsCache.invalidateAfterCommit(currentUser.getId());
         }
         if (updates.containsKey("phone")) {
             settings.setPhoneNumber((String) updates.get("phone"));
@@ -474,6 +645,8 @@ public class AdminService {
         if (updates.containsKey("systemAlerts")) {
             settings.setSystemAlerts((Boolean) updates.get("systemAlerts"));
         }
+        // Cached analytics expire at the user's midnight, which follows the time zone in the settings
+        userAnalyticsCache.invalidateAfterCommit(currentUser.getId());
         
         return userSettingsRepository.save(settings);
     }
@@ -0,0 +1,244 @@
+package org.task_manager.backend.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task_manager.backend.dto.TaskBatchItemResult;
+import org.task_manager.backend.dto.TaskBatchOperation;
+import org.task_manager.backend.dto.TaskBatchResponse;
+import org.task_manager.backend.dto.TaskRequest;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.Task;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.model.User;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Apply many task creates, updates and deletes in one request.
+ * Operations run in chunks, one transaction each. A chunk loads the tasks and assignees it
+ * needs with one query apiece and its writes go out as JDBC batches when it commits.
+ * Invalid operations fail on their own; a chunk the database rejects fails as a whole.
+ */
+@Slf4j
+@Service
+public class TaskBatchService {
+
+    // A multiple of the JDBC batch size
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String OK = "OK";
+    private static final String FAILED = "FAILED";
+
+    private enum Op { CREATE, UPDATE, DELETE }
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskBatchService(TaskRepository taskRepository,
+                            UserRepository userRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            Validator validator,
+                            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Apply the operations in order and report the outcome of each
+     */
+    public TaskBatchResponse apply(List<TaskBatchOperation> operations) {
+        TaskBatchItemResult[] results = new TaskBatchItemResult[operations.size()];
+        for (int from = 0; from < operations.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, operations.size());
+            int offset = from;
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        applyChunk(operations.subList(offset, to), offset, results));
+            } catch (RuntimeException e) {
+                log.warn("Task batch chunk {}-{} rolled back: {}", from, to - 1, e.getMessage());
+                for (int i = from; i < to; i++) {
+                    if (results[i] == null || OK.equals(results[i].getStatus())) {
+                        results[i] = failed(i, operations.get(i), "Rolled back with its chunk: " + e.getMessage());
+                    }
+                }
+            }
+        }
+
+        List<TaskBatchItemResult> items = List.of(results);
+        int succeeded = (int) items.stream().filter(item -> OK.equals(item.getStatus())).count();
+        return new TaskBatchResponse(succeeded, items.size() - succeeded, items);
+    }
+
+    private void applyChunk(List<TaskBatchOperation> chunk, int offset, TaskBatchItemResult[] results) {
+        Op[] ops = new Op[chunk.size()];
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            TaskBatchOperation operation = chunk.get(i);
+            String error = validate(operation);
+            if (error != null) {
+                results[offset + i] = failed(offset + i, operation, error);
+                continue;
+            }
+            ops[i] = Op.valueOf(operation.getOp().trim().toUpperCase());
+            if (ops[i] != Op.CREATE) {
+                taskIds.add(operation.getId());
+            }
+            if (ops[i] != Op.DELETE) {
+                userIds.add(operation.getTask().getAssignedToId());
+            }
+        }
+
+        Map<Long, Task> tasks = taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        // Updated tasks with their state before the chunk
+        Map<Task, TaskSnapshot> updated = new IdentityHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (ops[i] == null) {
+                continue;
+            }
+            TaskBatchOperation operation = chunk.get(i);
+            results[offset + i] = switch (ops[i]) {
+                case CREATE -> create(offset + i, operation, users);
+                case UPDATE -> update(offset + i, operation, tasks, users, updated);
+                case DELETE -> delete(offset + i, operation, tasks, updated);
+            };
+        }
+
+        // Flushed first so the published snapshots carry the incremented versions
+        taskRepository.flush();
+        updated.forEach((task, before) ->
+                eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(task))));
+    }
+
+    private TaskBatchItemResult create(int index, TaskBatchOperation operation, Map<Long, User> users) {
+        TaskRequest request = operation.getTask();
+        User assignedTo = users.get(request.getAssignedToId());
+        if (assignedTo == null) {
+            return failed(index, operation, notFound("User", request.getAssignedToId()));
+        }
+
+        Task task = new Task();
+        copy(request, task, assignedTo);
+        task.setCreationDate(LocalDateTime.now());
+        // The pooled sequence assigns the id here; the INSERT waits for the batch
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(saved)));
+        return ok(index, operation, saved.getId());
+    }
+
+    private TaskBatchItemResult update(int index, TaskBatchOperation operation, Map<Long, Task> tasks,
+                                       Map<Long, User> users, Map<Task, TaskSnapshot> updated) {
+        Task task = tasks.get(operation.getId());
+        if (task == null) {
+            return failed(index, operation, notFound("Task", operation.getId()));
+        }
+        TaskRequest request = operation.getTask();
+        User assignedTo = users.get(request.getAssignedToId());
+        if (assignedTo == null) {
+            return failed(index, operation, notFound("User", request.getAssignedToId()));
+        }
+
+        updated.putIfAbsent(task, TaskSnapshot.of(task));
+        copy(request, task, assignedTo);
+        task.setUpdatedAt(LocalDateTime.now());
+        return ok(index, operation, task.getId());
+    }
+
+    private TaskBatchItemResult delete(int index, TaskBatchOperation operation, Map<Long, Task> tasks,
+                                       Map<Task, TaskSnapshot> updated) {
+        // Removed from the map so a later operation on the same task in this chunk fails
+        Task task = tasks.remove(operation.getId());
+        if (task == null) {
+            return failed(index, operation, notFound("Task", operation.getId()));
+        }
+
+        // An earlier update in this chunk is folded into the delete
+        TaskSnapshot before = updated.containsKey(task) ? updated.remove(task) : TaskSnapshot.of(task);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
+        return ok(index, operation, task.getId());
+    }
+
+    private static void copy(TaskRequest request, Task task, User assignedTo) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setDueDate(request.getDueDate());
+        task.changeStatus(TaskStatus.valueOf(request.getStatus()), LocalDateTime.now());
+        task.setPriority(Priority.valueOf(request.getPriority()));
+        task.setAssignedTo(assignedTo);
+    }
+
+    /**
+     * Check the operation against the same rules as the single-task endpoints
+     */
+    private String validate(TaskBatchOperation operation) {
+        if (operation == null) {
+            return "Operation is required";
+        }
+        Op op;
+        try {
+            op = operation.getOp() != null ? Op.valueOf(operation.getOp().trim().toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            op = null;
+        }
+        if (op == null) {
+            return "op must be CREATE, UPDATE or DELETE";
+        }
+        if (op != Op.CREATE && operation.getId() == null) {
+            return "id is required for " + op;
+        }
+        if (op == Op.DELETE) {
+            return null;
+        }
+        if (operation.getTask() == null) {
+            return "task is required for " + op;
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(operation.getTask());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String notFound(String resource, Long id) {
+        return String.format("%s not found with id : '%s'", resource, id);
+    }
+
+    private static TaskBatchItemResult ok(int index, TaskBatchOperation operation, Long id) {
+        return new TaskBatchItemResult(index, operation.getOp(), id, OK, null);
+    }
+
+    private static TaskBatchItemResult failed(int index, TaskBatchOperation operation, String error) {
+        return new TaskBatchItemResult(index, operation != null ? operation.getOp() : null,
+                operation != null ? operation.getId() : null, FAILED, error);
+    }
+}
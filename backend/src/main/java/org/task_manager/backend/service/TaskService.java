@@ -1,25 +1,67 @@
 package org.task_manager.backend.service;
 
 import org.springframework.data.domain.Page;
+import org.task_manager.backend.dto.CursorPageDto;
 import org.task_manager.backend.dto.TaskRequest;
 import org.task_manager.backend.dto.TaskResponse;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+import org.task_manager.backend.repository.projection.TaskVersion;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
     // core CRUD
     TaskResponse createTask(TaskRequest request);
     TaskResponse getTaskById(Long id);
-    TaskResponse updateTask(Long id, TaskRequest request);
+    // ifMatch is the request's If-Match header, or null for an unconditional update
+    TaskResponse updateTask(Long id, TaskRequest request, String ifMatch);
     void deleteTask(Long id);
 
+    // Cheap change detection for conditional GETs
+    TaskVersion getTaskVersion(Long id);
+    // due is a preset window: "overdue", "today" or "week"
+    TaskSetVersion getTaskSetVersion(Long userId, String search, String status, String priority, String due);
+
     // Retrieval with pagination, sorting, and filtering
     Page<TaskResponse> getAllTasks(
             Long userId,
             String search,
             String status,
             String priority,
+            String due,
             int page,
             int size,
             String sortBy,
             String sortDir
     );
-}
\ No newline at end of file
+
+    // Every matching task in order, handed to the sink as rows are read; returns the row count
+    long streamTasks(
+            Long userId,
+            String search,
+            String status,
+            String priority,
+            String due,
+            String sortBy,
+            String sortDir,
+            Consumer<TaskResponse> sink
+    );
+
+    // Keyset retrieval: constant cost per page. withTotal adds one exact COUNT to the first page only
+    CursorPageDto<TaskResponse> scrollTasks(
+            Long userId,
+            String search,
+            String status,
+            String priority,
+            String due,
+            String cursor,
+            int size,
+            String sortBy,
+            String sortDir,
+            boolean withTotal
+    );
+
+    // Ranked full-text search over title and description
+    List<TaskResponse> searchTasks(Long userId, String query, String status, String priority, int limit);
+}
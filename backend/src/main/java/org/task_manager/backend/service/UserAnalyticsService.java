@@ -1,259 +1,207 @@
 package org.task_manager.backend.service;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.task_manager.backend.dto.*;
-import org.task_manager.backend.model.Priority;
-import org.task_manager.backend.model.Task;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task_manager.backend.dto.DepartmentAnalyticsReportDto;
+import org.task_manager.backend.dto.UserAnalyticsDetailDto;
 import org.task_manager.backend.model.TaskStatus;
 import org.task_manager.backend.model.User;
+import org.task_manager.backend.model.UserSettings;
 import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserDailyStatsRepository;
 import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.repository.UserSettingsRepository;
 import org.task_manager.backend.exception.UserNotFoundException;
-
+import org.task_manager.backend.repository.projection.DailyStatsTotal;
+import org.task_manager.backend.repository.projection.DepartmentTaskRow;
+import org.task_manager.backend.repository.projection.MonthlyCompletionCount;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.UserGroupView;
+import org.task_manager.backend.stats.AnalyticsRange;
+import org.task_manager.backend.stats.DepartmentAnalyticsAggregator;
+import org.task_manager.backend.stats.UserAnalyticsCache;
+import org.task_manager.backend.stats.UserAnalyticsAccumulator;
+import org.task_manager.backend.util.TimeRangeUtil;
+
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 @Service
-@RequiredArgsConstructor
 public class UserAnalyticsService {
 
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final UserSettingsRepository userSettingsRepository;
+    private final UserAnalyticsCache userAnalyticsCache;
+    private final ForkJoinPool analyticsPool;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Open tasks are the current workload whatever their age
+    private static final List<TaskStatus> OPEN_STATUSES = List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    public UserAnalyticsService(UserRepository userRepository,
+                                TaskRepository taskRepository,
+                                UserDailyStatsRepository userDailyStatsRepository,
+                                UserSettingsRepository userSettingsRepository,
+                                UserAnalyticsCache userAnalyticsCache,
+                                ForkJoinPool analyticsPool,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.userDailyStatsRepository = userDailyStatsRepository;
+        this.userSettingsRepository = userSettingsRepository;
+        this.userAnalyticsCache = userAnalyticsCache;
+        this.analyticsPool = analyticsPool;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
-     * Get comprehensive analytics for a user
+     * Get comprehensive analytics for a user over a time range (7days, 30days, 90days or year).
+     * Only open tasks and tasks completed inside the range are read; the activity chart and the
+     * monthly trend come from the user_daily_stats rollup. Everything is folded in one
+     * {@link UserAnalyticsAccumulator} pass, and the result is cached until the user's tasks change.
      */
-    public UserAnalyticsDetailDto getUserAnalytics(Long userId) {
+    // SUPPORTS so an answer from the cache does not take a connection for an empty transaction;
+    // a miss computes in a read-only transaction of its own, so its queries see one snapshot
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public UserAnalyticsDetailDto getUserAnalytics(Long userId, String range) {
+        AnalyticsRange analyticsRange = AnalyticsRange.fromKey(range);
+        return userAnalyticsCache.get(userId, analyticsRange,
+                () -> readOnlyTransaction.execute(status -> computeUserAnalytics(userId, analyticsRange)));
+    }
+
+    private UserAnalyticsCache.Computed computeUserAnalytics(Long userId, AnalyticsRange analyticsRange) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.forId(userId));
 
-        List<Task> allTasks = taskRepository.findByAssignedToId(userId);
-        
+        LocalDateTime[] dateRange = TimeRangeUtil.getDateRange(analyticsRange.key());
+        LocalDateTime now = dateRange[1];
+        LocalDateTime from = analyticsRange.windowStart(dateRange[0], now);
+
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(analyticsRange, now);
+        for (TaskListRow row : taskRepository.findListRowsByAssignedToIdAndStatusIn(userId, OPEN_STATUSES)) {
+            accumulator.add(row);
+        }
+        for (TaskListRow row : taskRepository.findListRowsByAssignedToIdAndStatusAndCompletedAtBetween(
+                userId, TaskStatus.DONE, from, now)) {
+            accumulator.add(row);
+        }
+        for (DailyStatsTotal day : userDailyStatsRepository.sumByDay(
+                userId, analyticsRange.firstBucketStart(now).toLocalDate(), now.toLocalDate())) {
+            accumulator.addDailyActivity(day.getStatDate(), day.getStarted(), day.getCompleted());
+        }
+        for (MonthlyCompletionCount month : userDailyStatsRepository.sumCompletedByMonth(
+                userId, analyticsRange.firstTrendMonthStart(now).toLocalDate(), now.toLocalDate())) {
+            accumulator.addMonthlyCompletions(month.getYear(), month.getMonth(),
+                    month.getCompleted(), month.getCompletedOnTime());
+        }
+
         UserAnalyticsDetailDto analytics = new UserAnalyticsDetailDto();
         analytics.setUserId(userId);
         analytics.setUsername(user.getUsername());
         analytics.setEmail(user.getEmail());
-        
-        // Stats
-        analytics.setStats(buildStatsDto(allTasks));
-        
-        // Daily Activity (last 7 days)
-        analytics.setDailyActivity(buildDailyActivity(allTasks));
-        
-        // Priority Distribution
-        analytics.setPriorityDistribution(buildPriorityDistribution(allTasks));
-        
-        // Performance Trends (last 6 months)
-        analytics.setPerformanceTrends(buildPerformanceTrends(allTasks));
-        
-        // Recent Activities
-        analytics.setRecentActivities(buildRecentActivities(allTasks));
-        
-        // Summary metrics
-        analytics.setCompletionRate(getCompletionRate(allTasks));
-        analytics.setTotalTasksAssigned(allTasks.size());
-        analytics.setCompletedTasks((int) allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                .count());
-        analytics.setInProgressTasks((int) allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
-                .count());
-        analytics.setPendingTasks((int) allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.TODO)
-                .count());
-        analytics.setOverdueTasks(getOverdueTasks(allTasks).size());
-        
-        analytics.setGeneratedAt(LocalDateTime.now());
-        analytics.setTimeRange("7days");
-        analytics.setStartDate(LocalDateTime.now().minusDays(7));
-        analytics.setEndDate(LocalDateTime.now());
-        
-        return analytics;
-    }
 
-    /**
-     * Build StatsDto from task data
-     */
-    private StatsDto buildStatsDto(List<Task> tasks) {
-        long completed = tasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count();
-        long inProgress = tasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS).count();
-        long pending = tasks.stream().filter(t -> t.getStatus() == TaskStatus.TODO).count();
-        
-        double completionRate = tasks.isEmpty() ? 0.0 : (completed * 100.0 / tasks.size());
-        
-        // Calculate on-time rate (tasks completed before due date)
-        long completedOnTime = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE && t.getDueDate() != null)
-                .filter(t -> t.getUpdatedAt() != null && t.getUpdatedAt().isBefore(t.getDueDate()))
-                .count();
-        long completedWithDueDate = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE && t.getDueDate() != null)
-                .count();
-        double onTimeRate = completedWithDueDate > 0 ? (completedOnTime * 100.0 / completedWithDueDate) : 100.0;
-        
-        StatsDto stats = new StatsDto();
-        stats.setTasksCompleted(completed);
-        stats.setTasksInProgress(inProgress);
-        stats.setTasksPending(pending);
-        stats.setCompletionRate(completionRate);
-        stats.setOnTimeRate(onTimeRate);
-        stats.setProductivityScore(calculateProductivityScore(tasks));
-        stats.setAvgTaskTime(0.0); // Placeholder
-        
-        return stats;
-    }
+        // Stats, activity buckets, priority distribution, performance trends,
+        // recent activities and summary metrics
+        accumulator.writeTo(analytics);
 
-    /**
-     * Build daily activity data for last 7 days
-     */
-    private List<DailyActivityDto> buildDailyActivity(List<Task> tasks) {
-        List<DailyActivityDto> dailyActivity = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-        
-        for (int i = 6; i >= 0; i--) {
-            LocalDate date = today.minusDays(i);
-            String dayLabel = date.format(DateTimeFormatter.ofPattern("EEE"));
-            
-            int completed = (int) tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE)
-                    .filter(t -> t.getUpdatedAt() != null && t.getUpdatedAt().toLocalDate().equals(date))
-                    .count();
-            
-            int started = (int) tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
-                    .filter(t -> t.getCreationDate() != null && t.getCreationDate().toLocalDate().equals(date))
-                    .count();
-            
-            dailyActivity.add(new DailyActivityDto(dayLabel, completed, started));
-        }
-        
-        return dailyActivity;
-    }
+        analytics.setGeneratedAt(now);
+        analytics.setTimeRange(analyticsRange.key());
+        analytics.setStartDate(from);
+        analytics.setEndDate(now);
 
-    /**
-     * Build priority distribution data
-     */
-    private List<PriorityDistributionDto> buildPriorityDistribution(List<Task> tasks) {
-        Map<Priority, Long> priorityCounts = tasks.stream()
-                .collect(Collectors.groupingBy(
-                        task -> task.getPriority() != null ? task.getPriority() : Priority.MEDIUM,
-                        Collectors.counting()
-                ));
-        
-        List<PriorityDistributionDto> distribution = new ArrayList<>();
-        distribution.add(new PriorityDistributionDto("High", 
-                priorityCounts.getOrDefault(Priority.HIGH, 0L).intValue(), "#ef4444"));
-        distribution.add(new PriorityDistributionDto("Medium", 
-                priorityCounts.getOrDefault(Priority.MEDIUM, 0L).intValue(), "#f59e0b"));
-        distribution.add(new PriorityDistributionDto("Low", 
-                priorityCounts.getOrDefault(Priority.LOW, 0L).intValue(), "#10b981"));
-        
-        return distribution;
+        return new UserAnalyticsCache.Computed(analytics, expiresAt(userId, now, accumulator.nextDueDate()));
     }
 
     /**
-     * Build performance trends for last 6 months
+     * Get analytics per department, or per designation when groupBy is "designation", over a time range:
+     * completion and on-time rates, overdue load and throughput. Tasks are counted as in
+     * {@link #getUserAnalytics} but read for all users in two queries, and folded on the analytics
+     * fork/join pool in partitions of users.
      */
-    private List<PerformanceTrendDto> buildPerformanceTrends(List<Task> tasks) {
-        List<PerformanceTrendDto> trends = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-        
-        for (int i = 5; i >= 0; i--) {
-            LocalDate monthDate = today.minusMonths(i);
-            String monthLabel = monthDate.format(DateTimeFormatter.ofPattern("MMM"));
-            
-            int completedInMonth = (int) tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE)
-                    .filter(t -> t.getUpdatedAt() != null && 
-                            t.getUpdatedAt().getYear() == monthDate.getYear() &&
-                            t.getUpdatedAt().getMonthValue() == monthDate.getMonthValue())
-                    .count();
-            
-            // Quality score: percentage of on-time completion
-            long completedOnTimeInMonth = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE && t.getDueDate() != null)
-                    .filter(t -> t.getUpdatedAt() != null && 
-                            t.getUpdatedAt().getYear() == monthDate.getYear() &&
-                            t.getUpdatedAt().getMonthValue() == monthDate.getMonthValue())
-                    .filter(t -> t.getUpdatedAt().isBefore(t.getDueDate()))
-                    .count();
-            
-            double quality = completedInMonth > 0 ? 
-                    (completedOnTimeInMonth * 100.0 / completedInMonth) : 0.0;
-            
-            trends.add(new PerformanceTrendDto(monthLabel, completedInMonth, quality));
+    @Transactional(readOnly = true)
+    public DepartmentAnalyticsReportDto getDepartmentAnalytics(String range, String groupBy) {
+        AnalyticsRange analyticsRange = AnalyticsRange.fromKey(range);
+        boolean byDesignation = "designation".equalsIgnoreCase(groupBy);
+
+        LocalDateTime[] dateRange = TimeRangeUtil.getDateRange(analyticsRange.key());
+        LocalDateTime now = dateRange[1];
+        LocalDateTime from = analyticsRange.windowStart(dateRange[0], now);
+
+        Map<Long, List<DepartmentTaskRow>> tasksByUser = new HashMap<>();
+        for (DepartmentTaskRow row : taskRepository.findDepartmentRows(OPEN_STATUSES, TaskStatus.DONE, from, now)) {
+            tasksByUser.computeIfAbsent(row.userId(), id -> new ArrayList<>()).add(row);
+        }
+        List<DepartmentAnalyticsAggregator.Member> members = new ArrayList<>();
+        for (UserGroupView user : userRepository.findAllGroups()) {
+            String group = byDesignation ? user.getDesignation() : user.getDepartment();
+            // Users without one are counted together under a null department
+            members.add(new DepartmentAnalyticsAggregator.Member(
+                    group == null || group.isBlank() ? null : group.trim(),
+                    tasksByUser.getOrDefault(user.getId(), List.of())));
         }
-        
-        return trends;
-    }
 
-    /**
-     * Build recent activities list
-     */
-    private List<RecentActivityDto> buildRecentActivities(List<Task> tasks) {
-        return tasks.stream()
-                .sorted(Comparator.comparing(Task::getUpdatedAt, 
-                        Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(10)
-                .map(task -> new RecentActivityDto(
-                        task.getId(),
-                        task.getTitle(),
-                        task.getStatus().toString(),
-                        task.getUpdatedAt()
-                ))
-                .collect(Collectors.toList());
+        DepartmentAnalyticsAggregator.Result result = DepartmentAnalyticsAggregator.aggregate(analyticsPool, members, now);
+        double weeks = ChronoUnit.MINUTES.between(from, now) / (60.0 * 24 * 7);
+
+        DepartmentAnalyticsReportDto report = new DepartmentAnalyticsReportDto();
+        report.setGroupBy(byDesignation ? "designation" : "department");
+        report.setDepartments(DepartmentAnalyticsAggregator.toDtos(result.departments(), weeks));
+        report.setPartitions(result.partitions());
+        report.setParallelism(analyticsPool.getParallelism());
+        report.setGeneratedAt(now);
+        report.setTimeRange(analyticsRange.key());
+        report.setStartDate(from);
+        report.setEndDate(now);
+        return report;
     }
 
     /**
-     * Calculate productivity score
+     * When computed analytics stop being valid: at the next midnight of the server, where the charts
+     * roll over, or of the user's time zone, or when the next open task becomes overdue
      */
-    private Integer calculateProductivityScore(List<Task> tasks) {
-        if (tasks.isEmpty()) {
-            return 50;
+    private Instant expiresAt(Long userId, LocalDateTime now, LocalDateTime nextDueDate) {
+        ZoneId serverZone = ZoneId.systemDefault();
+        Instant expiresAt = now.toLocalDate().plusDays(1).atStartOfDay(serverZone).toInstant();
+
+        ZoneId userZone = userZone(userId);
+        Instant userMidnight = LocalDate.now(userZone).plusDays(1).atStartOfDay(userZone).toInstant();
+        if (userMidnight.isBefore(expiresAt)) {
+            expiresAt = userMidnight;
         }
-        
-        double completionRate = getCompletionRate(tasks);
-        int overdueTasks = getOverdueTasks(tasks).size();
-        int inProgressTasks = (int) tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS)
-                .count();
-        
-        double score = (completionRate * 0.6) +
-                (inProgressTasks > 0 ? 20 : 0) +
-                (overdueTasks == 0 ? 20 : Math.max(0, 20 - (overdueTasks * 5)));
-        
-        return Math.min(100, (int) score);
-    }
 
-    /**
-     * Get completion rate percentage
-     */
-    public double getCompletionRate(List<Task> userTasks) {
-        if (userTasks.isEmpty()) {
-            return 0.0;
+        if (nextDueDate != null && nextDueDate.atZone(serverZone).toInstant().isBefore(expiresAt)) {
+            expiresAt = nextDueDate.atZone(serverZone).toInstant();
         }
-
-        long completed = userTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                .count();
-
-        return (completed * 100.0) / userTasks.size();
+        return expiresAt;
     }
 
-    /**
-     * Get overdue tasks
-     */
-    public List<Task> getOverdueTasks(List<Task> userTasks) {
-        LocalDateTime now = LocalDateTime.now();
-
-        return userTasks.stream()
-                .filter(t -> t.getDueDate() != null &&
-                        t.getDueDate().isBefore(now) &&
-                        t.getStatus() != TaskStatus.DONE)
-                .collect(Collectors.toList());
+    private ZoneId userZone(Long userId) {
+        String timeZone = userSettingsRepository.findByUserId(userId)
+                .map(UserSettings::getTimeZone)
+                .orElse(null);
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            return ZoneOffset.UTC;
+        }
     }
 }
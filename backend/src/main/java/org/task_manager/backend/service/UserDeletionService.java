@@ -0,0 +1,213 @@
+package org.task_manager.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task_manager.backend.dto.UserDeletionJobDto;
+import org.task_manager.backend.event.TasksReassignedEvent;
+import org.task_manager.backend.exception.InvalidOperationException;
+import org.task_manager.backend.exception.ResourceNotFoundException;
+import org.task_manager.backend.model.User;
+import org.task_manager.backend.repository.ActivityLogRepository;
+import org.task_manager.backend.repository.ReportRepository;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.repository.UserSettingsRepository;
+import org.task_manager.backend.stats.DashboardStatsCache;
+import org.task_manager.backend.stats.UserAnalyticsCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Set-based user deletion.
+ * Tasks are unassigned or handed over with bulk UPDATEs and dependent rows are removed
+ * with bulk DELETEs, so no task entity is loaded. Users with many tasks can be deleted
+ * in the background, one chunk per transaction, with progress exposed as a job.
+ */
+@Slf4j
+@Service
+public class UserDeletionService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final UserSettingsRepository userSettingsRepository;
+    private final ReportRepository reportRepository;
+    private final ActivityLogRepository activityLogRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final UserAnalyticsCache userAnalyticsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public UserDeletionService(UserRepository userRepository,
+                               TaskRepository taskRepository,
+                               UserSettingsRepository userSettingsRepository,
+                               ReportRepository reportRepository,
+                               ActivityLogRepository activityLogRepository,
+                               DashboardStatsCache dashboardStatsCache,
+                               UserAnalyticsCache userAnalyticsCache,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.userSettingsRepository = userSettingsRepository;
+        this.reportRepository = reportRepository;
+        this.activityLogRepository = activityLogRepository;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.userAnalyticsCache = userAnalyticsCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Delete a user in the caller's transaction.
+     * Their tasks go to the target user, or are unassigned when the target is null.
+     */
+    @Transactional
+    public void deleteUser(Long userId, User target) {
+        checkNotRunning(userId);
+        LocalDateTime now = LocalDateTime.now();
+        int moved = target == null
+                ? taskRepository.unassignAllFromUser(userId, now)
+                : taskRepository.reassignAllFromUser(userId, target, now);
+        publishReassigned(userId, target, moved);
+        deleteUserRows(userId);
+        dashboardStatsCache.invalidate();
+        log.info("Deleted user {} and moved {} tasks", userId, moved);
+    }
+
+    /**
+     * Start deleting a user in the background and return the job to poll for progress
+     */
+    public synchronized UserDeletionJobDto startDeletion(Long userId, User target) {
+        pruneFinishedJobs();
+        checkNotRunning(userId);
+
+        Long targetUserId = target != null ? target.getId() : null;
+        Job job = new Job(UUID.randomUUID().toString(), userId, targetUserId,
+                taskRepository.countByAssignedToId(userId));
+        jobs.put(job.id, job);
+        taskExecutor.execute(() -> run(job, target));
+        return job.toDto();
+    }
+
+    /**
+     * Get the progress of a background deletion
+     */
+    public Optional<UserDeletionJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toDto);
+    }
+
+    private void run(Job job, User target) {
+        try {
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> moveChunk(job.userId, target));
+                job.processed.addAndGet(moved);
+            } while (moved > 0);
+
+            transactionTemplate.executeWithoutResult(status -> deleteUserRows(job.userId));
+            dashboardStatsCache.invalidate();
+            job.finish("COMPLETED", null);
+            log.info("Deleted user {} in the background and moved {} tasks", job.userId, job.processed.get());
+        } catch (RuntimeException e) {
+            job.finish("FAILED", e.getMessage());
+            log.error("Background deletion of user {} failed after {} tasks", job.userId, job.processed.get(), e);
+        }
+    }
+
+    private int moveChunk(Long userId, User target) {
+        List<Long> ids = taskRepository.findIdsByAssignedToId(userId, PageRequest.of(0, CHUNK_SIZE));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int moved = target == null
+                ? taskRepository.unassignByIds(ids, now)
+                : taskRepository.reassignByIds(ids, target, now);
+        publishReassigned(userId, target, moved);
+        return moved;
+    }
+
+    private void deleteUserRows(Long userId) {
+        activityLogRepository.deleteByUserId(userId);
+        reportRepository.deleteByGeneratedById(userId);
+        userSettingsRepository.deleteByUserId(userId);
+        if (userRepository.deleteUserRow(userId) == 0) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        userAnalyticsCache.invalidateAfterCommit(userId);
+    }
+
+    private void publishReassigned(Long userId, User target, int moved) {
+        if (moved > 0) {
+            eventPublisher.publishEvent(new TasksReassignedEvent(userId, target != null ? target.getId() : null, moved));
+        }
+    }
+
+    private void checkNotRunning(Long userId) {
+        boolean running = jobs.values().stream().anyMatch(job -> job.userId.equals(userId) && job.isRunning());
+        if (running) {
+            throw InvalidOperationException.cannotDelete("user", "A deletion is already running for this user");
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Long userId;
+        private final Long targetUserId;
+        private final long totalTasks;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(String id, Long userId, Long targetUserId, long totalTasks) {
+            this.id = id;
+            this.userId = userId;
+            this.targetUserId = targetUserId;
+            this.totalTasks = totalTasks;
+        }
+
+        private boolean isRunning() {
+            return finishedAt == null;
+        }
+
+        private void finish(String finalStatus, String errorMessage) {
+            this.error = errorMessage;
+            this.status = finalStatus;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        private UserDeletionJobDto toDto() {
+            return new UserDeletionJobDto(id, userId, targetUserId, status, totalTasks, processed.get(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.task_manager.backend.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.task_manager.backend.dto.PasswordChangeDto;
 import org.task_manager.backend.dto.TaskResponseDto;
 import org.task_manager.backend.dto.UserResponseDto;
@@ -12,13 +13,19 @@ import org.task_manager.backend.exception.InvalidCredentialsException;
 import org.task_manager.backend.exception.InvalidOperationException;
 import org.task_manager.backend.exception.UserNotFoundException;
 import org.task_manager.backend.model.RoleName;
-import org.task_manager.backend.model.Task;
 import org.task_manager.backend.model.TaskStatus;
 import org.task_manager.backend.model.User;
 import org.task_manager.backend.repository.TaskRepository;
 import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.repository.UserSettingsRepository;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.UserTaskCount;
+import org.task_manager.backend.search.UserTaskIndex;
+import org.task_manager.backend.stats.UserAnalyticsCache;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,7 +34,10 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final UserSettingsRepository userSettingsRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserTaskIndex userTaskIndex;
+    private final UserAnalyticsCache userAnalyticsCache;
 
     /**
      * Get all users for admin dashboard
@@ -72,6 +82,7 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      * @throws InvalidOperationException if update violates business rules
      */
+    @Transactional
     public UserResponseDto updateUser(Long userId, UserUpdateDto updateDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.forId(userId));
@@ -82,6 +93,9 @@ public class UserService {
                 throw InvalidOperationException.cannotUpdate("username", "Username already exists");
             }
             user.setUsername(updateDto.getUsername());
+            // Indexed task rows carry the assignee's username
+            userTaskIndex.evictAfterCommit(userId);
+            userAnalyticsCache.invalidateAfterCommit(userId);
         }
 
         // Validate new email doesn't already exist (if changing)
@@ -90,6 +104,7 @@ public class UserService {
                 throw InvalidOperationException.cannotUpdate("email", "Email already exists");
             }
             user.setEmail(updateDto.getEmail());
+            userAnalyticsCache.invalidateAfterCommit(userId);
         }
 
         // Update optional fields
@@ -118,6 +133,7 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      * @throws InvalidOperationException if user is the last admin
      */
+    @Transactional
     public void deleteUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.forId(userId));
@@ -130,6 +146,7 @@ public class UserService {
             }
         }
 
+        userSettingsRepository.deleteByUserId(userId);
         userRepository.deleteById(userId);
     }
 
@@ -140,6 +157,7 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      * @throws InvalidCredentialsException if current password is incorrect or passwords don't match
      */
+    @Transactional
     public void changePassword(Long userId, PasswordChangeDto changePasswordDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.forId(userId));
@@ -214,6 +232,14 @@ public class UserService {
 
         String searchPattern = "%" + searchTerm.trim() + "%";
         List<User> results = userRepository.searchUsers(searchTerm);
+        if (results.isEmpty()) {
+            return List.of();
+        }
+
+        // One grouped count instead of loading each user's task collection
+        Map<Long, UserTaskCount> taskCounts = taskRepository.countTasksByAssignees(
+                        results.stream().map(User::getId).toList()).stream()
+                .collect(Collectors.toMap(UserTaskCount::getUserId, Function.identity()));
 
         return results.stream()
                 .map(user -> new UserSearchResultDto(
@@ -221,10 +247,8 @@ public class UserService {
                         user.getUsername(),
                         user.getEmail(),
                         user.getRole().getName().toString(),
-                        (long) user.getTasks().stream()
-                                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                                .count(),
-                        (long) user.getTasks().size(),
+                        taskCounts.containsKey(user.getId()) ? taskCounts.get(user.getId()).getCompleted() : 0L,
+                        taskCounts.containsKey(user.getId()) ? taskCounts.get(user.getId()).getTotal() : 0L,
                         user.getCreatedAt(),
                         "ACTIVE",
                         calculateRelevanceScore(searchTerm, user)
@@ -240,10 +264,9 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      */
     public List<TaskResponseDto> getUserTasks(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.forId(userId));
+        requireUser(userId);
 
-        return taskRepository.findByAssignedToId(userId).stream()
+        return taskRepository.findListRowsByAssignedToId(userId).stream()
                 .map(this::convertTaskToDto)
                 .collect(Collectors.toList());
     }
@@ -255,10 +278,9 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      */
     public List<TaskResponseDto> getUserCompletedTasks(Long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.forId(userId));
+        requireUser(userId);
 
-        return taskRepository.findByAssignedToIdAndStatus(userId, TaskStatus.DONE).stream()
+        return taskRepository.findListRowsByAssignedToIdAndStatusIn(userId, List.of(TaskStatus.DONE)).stream()
                 .map(this::convertTaskToDto)
                 .collect(Collectors.toList());
     }
@@ -270,15 +292,10 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      */
     public List<TaskResponseDto> getUserPendingTasks(Long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.forId(userId));
+        requireUser(userId);
 
-        List<Task> todoTasks = taskRepository.findByAssignedToIdAndStatus(userId, TaskStatus.TODO);
-        List<Task> inProgressTasks = taskRepository.findByAssignedToIdAndStatus(userId, TaskStatus.IN_PROGRESS);
-        
-        todoTasks.addAll(inProgressTasks);
-        
-        return todoTasks.stream()
+        return taskRepository.findListRowsByAssignedToIdAndStatusIn(
+                        userId, List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)).stream()
                 .map(this::convertTaskToDto)
                 .collect(Collectors.toList());
     }
@@ -291,11 +308,10 @@ public class UserService {
      * @throws UserNotFoundException if user not found
      */
     public long countUserTasksByStatus(Long userId, TaskStatus status) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.forId(userId));
+        requireUser(userId);
 
         if (status == null) {
-            return taskRepository.findByAssignedToId(userId).size();
+            return taskRepository.countByAssignedToId(userId);
         }
         return taskRepository.countByAssignedToIdAndStatus(userId, status);
     }
@@ -311,19 +327,28 @@ public class UserService {
     }
 
     /**
-     * Helper method to convert Task entity to TaskResponseDto
+     * Existence check that does not load the user with its role and settings
+     */
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw UserNotFoundException.forId(userId);
+        }
+    }
+
+    /**
+     * Helper method to convert a task list row to TaskResponseDto
      */
-    private TaskResponseDto convertTaskToDto(Task task) {
+    private TaskResponseDto convertTaskToDto(TaskListRow task) {
         return new TaskResponseDto(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus() != null ? task.getStatus().toString() : null,
-                task.getPriority() != null ? task.getPriority().toString() : null,
-                task.getDueDate(),
-                task.getCreationDate(),
-                task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : null,
-                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null
+                task.id(),
+                task.title(),
+                task.description(),
+                task.status() != null ? task.status().toString() : null,
+                task.priority() != null ? task.priority().toString() : null,
+                task.dueDate(),
+                task.creationDate(),
+                task.assignedToUsername(),
+                task.assignedToId()
         );
     }
 
@@ -6,12 +6,14 @@ import org.springframework.transaction.annotation.Transactional;
 import org.task_manager.backend.model.User;
 import org.task_manager.backend.model.UserSettings;
 import org.task_manager.backend.repository.UserSettingsRepository;
+import org.task_manager.backend.stats.UserAnalyticsCache;
 
 @Service
 @RequiredArgsConstructor
 public class UserSettingsService {
     
     private final UserSettingsRepository userSettingsRepository;
+    private final UserAnalyticsCache userAnalyticsCache;
 
     @Transactional
     public UserSettings updateEmailNotifications(User user, boolean enabled) {
@@ -24,6 +26,8 @@ public class UserSettingsService {
             });
         
         settings.setEmailNotifications(enabled);
+        // Cached analytics expire at the user's midnight, which follows the time zone in the settings
+        userAnalyticsCache.invalidateAfterCommit(user.getId());
         return userSettingsRepository.save(settings);
     }
 
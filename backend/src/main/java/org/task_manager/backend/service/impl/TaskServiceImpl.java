@@ -1,34 +1,72 @@
 package org.task_manager.backend.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.task_manager.backend.dto.CursorPageDto;
 import org.task_manager.backend.dto.TaskRequest;
 import org.task_manager.backend.dto.TaskResponse;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.exception.PreconditionFailedException;
 import org.task_manager.backend.exception.ResourceNotFoundException;
 import org.task_manager.backend.model.Priority;
 import org.task_manager.backend.model.Task;
 import org.task_manager.backend.model.TaskStatus;
 import org.task_manager.backend.model.User;
 import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.TaskSortKey;
 import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.repository.projection.TaskListRow;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+import org.task_manager.backend.repository.projection.TaskVersion;
+import org.task_manager.backend.search.TaskSearchFilter;
+import org.task_manager.backend.search.TaskSearchIndex;
+import org.task_manager.backend.search.UserTaskFilter;
+import org.task_manager.backend.search.UserTaskIndex;
 import org.task_manager.backend.service.TaskService;
+import org.task_manager.backend.util.ETagUtil;
+import org.task_manager.backend.util.KeysetCursor;
+import org.task_manager.backend.util.KeysetPageUtil;
+import org.task_manager.backend.util.TimeRangeUtil;
 
 import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements TaskService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     @Autowired
     private TaskRepository taskRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private UserTaskIndex userTaskIndex;
+
     private TaskResponse mapToTaskResponse(Task task) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
@@ -38,17 +76,67 @@ public class TaskServiceImpl implements TaskService {
         response.setStatus(task.getStatus().name());
         response.setPriority(task.getPriority().name());
         response.setCreationDate(task.getCreationDate());
+        response.setVersion(task.getVersion());
 
         if (task.getAssignedTo() != null) {
             response.setAssignedToId(task.getAssignedTo().getId());
             response.setAssignedToUsername(task.getAssignedTo().getUsername());
+            response.setAssigneeUpdatedAt(task.getAssignedTo().getUpdatedAt());
         }
         return response;
     }
 
-    private Specification<Task> buildFilterSpec(String search, String status, String priority) {
+    private static TaskVersion versionOf(Task task) {
+        return new TaskVersion(task.getVersion(), task.getAssignedTo() != null ? task.getAssignedTo().getUpdatedAt() : null);
+    }
+
+    private TaskResponse mapToTaskResponse(TaskListRow row) {
+        TaskResponse response = new TaskResponse();
+        response.setId(row.id());
+        response.setTitle(row.title());
+        response.setDescription(row.description());
+        response.setDueDate(row.dueDate());
+        response.setStatus(row.status().name());
+        response.setPriority(row.priority().name());
+        response.setCreationDate(row.creationDate());
+        response.setVersion(row.version());
+        response.setAssignedToId(row.assignedToId());
+        response.setAssignedToUsername(row.assignedToUsername());
+        return response;
+    }
+
+    private Specification<Task> buildFilterSpec(Long userId, String search, UserTaskFilter filter) {
         Specification<Task> spec = Specification.where(null);
 
+        // Filter by user - only show tasks assigned to this user
+        if (userId != null) {
+            spec = spec.and((root, query, cb) ->
+                cb.equal(root.get("assignedTo").get("id"), userId)
+            );
+        }
+
+        TaskStatus statusEnum = filter.status();
+        if (statusEnum != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), statusEnum));
+        }
+
+        Priority priorityEnum = filter.priority();
+        if (priorityEnum != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priorityEnum));
+        }
+
+        if (filter.openOnly()) {
+            spec = spec.and((root, query, cb) -> cb.notEqual(root.get("status"), TaskStatus.DONE));
+        }
+        if (filter.dueFrom() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), filter.dueFrom()));
+        }
+        if (filter.dueBefore() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("dueDate"), filter.dueBefore()));
+        }
+
+        // Substring match on title or description. The search index only matches whole terms and
+        // term prefixes, so it serves the ranked search endpoint but cannot answer this filter
         if (search != null && !search.trim().isEmpty()) {
             String keyword = search.trim().toLowerCase();
             spec = spec.and((root, query, cb) -> cb.or(
@@ -57,25 +145,44 @@ public class TaskServiceImpl implements TaskService {
             ));
         }
 
-        if (status != null && !status.trim().isEmpty()) {
-            try {
-                TaskStatus statusEnum = TaskStatus.valueOf(status.trim().toUpperCase());
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), statusEnum));
-            } catch (IllegalArgumentException ignored) {
-                // ignore invalid status input
-            }
-        }
+        return spec;
+    }
 
-        if (priority != null && !priority.trim().isEmpty()) {
-            try {
-                Priority priorityEnum = Priority.valueOf(priority.trim().toUpperCase());
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priorityEnum));
-            } catch (IllegalArgumentException ignored) {
-                // ignore invalid priority input
-            }
-        }
+    /**
+     * Parse the list filters. Invalid status/priority/due input is ignored.
+     * due is one of "overdue" (open tasks past their due date), "today" or "week" (the current calendar week).
+     */
+    private static UserTaskFilter buildFilter(String status, String priority, String due) {
+        TaskStatus statusEnum = parseEnum(TaskStatus.class, status);
+        Priority priorityEnum = parseEnum(Priority.class, priority);
+        LocalDateTime now = LocalDateTime.now();
+        String preset = due != null ? due.trim().toLowerCase() : "";
+        return switch (preset) {
+            case "overdue" -> new UserTaskFilter(statusEnum, priorityEnum, null, now, true);
+            case "today" -> new UserTaskFilter(statusEnum, priorityEnum,
+                    TimeRangeUtil.getStartOfDay(now), TimeRangeUtil.getStartOfDay(now).plusDays(1), false);
+            case "week" -> new UserTaskFilter(statusEnum, priorityEnum,
+                    TimeRangeUtil.getStartOfWeek(now), TimeRangeUtil.getStartOfWeek(now).plusWeeks(1), false);
+            default -> new UserTaskFilter(statusEnum, priorityEnum, null, null, false);
+        };
+    }
 
-        return spec;
+    /**
+     * Whether a listing can be answered by the user task index: one user's tasks in due date order
+     */
+    private static boolean servedByUserIndex(Long userId, String search, String sortBy) {
+        return userId != null && (search == null || search.trim().isEmpty()) && "dueDate".equals(sortBy);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     @Override
@@ -85,80 +192,205 @@ public class TaskServiceImpl implements TaskService {
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setDueDate(request.getDueDate());
-        task.setStatus(TaskStatus.valueOf(request.getStatus()));
-        task.setPriority(Priority.valueOf(request.getPriority()));
         task.setCreationDate(LocalDateTime.now());
+        task.changeStatus(TaskStatus.valueOf(request.getStatus()), task.getCreationDate());
+        task.setPriority(Priority.valueOf(request.getPriority()));
 
         User assignedTo = userRepository.findById(request.getAssignedToId())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssignedToId()));
         task.setAssignedTo(assignedTo);
 
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(savedTask)));
         return mapToTaskResponse(savedTask);
     }
 
     @Override
     @Transactional
-    public TaskResponse updateTask(Long id, TaskRequest request) {
+    public TaskResponse updateTask(Long id, TaskRequest request, String ifMatch) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        // Lost-update check against the version the client last saw; @Version covers writes racing this one
+        if (ifMatch != null && !ETagUtil.matchesIfMatch(ifMatch, task.getId(), versionOf(task))) {
+            throw new PreconditionFailedException("Task", id);
+        }
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setDueDate(request.getDueDate());
-        task.setStatus(TaskStatus.valueOf(request.getStatus()));
+        task.changeStatus(TaskStatus.valueOf(request.getStatus()), LocalDateTime.now());
         task.setPriority(Priority.valueOf(request.getPriority()));
 
         User assignedTo = userRepository.findById(request.getAssignedToId())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssignedToId()));
         task.setAssignedTo(assignedTo);
 
-        Task updatedTask = taskRepository.save(task);
+        task.setUpdatedAt(LocalDateTime.now());
+
+        // Flushed so the response carries the incremented version
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(updatedTask)));
         return mapToTaskResponse(updatedTask);
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+        TaskSnapshot before = TaskSnapshot.of(task);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
     }
 
     @Override
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        TaskListRow row = taskRepository.findListRowById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
-        return mapToTaskResponse(task);
+        return mapToTaskResponse(row);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public TaskVersion getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
+    }
+
+    // SUPPORTS so an answer from the user task index does not take a connection for an empty transaction
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public TaskSetVersion getTaskSetVersion(Long userId, String search, String status, String priority, String due) {
+        UserTaskFilter filter = buildFilter(status, priority, due);
+        if (servedByUserIndex(userId, search, "dueDate")) {
+            Optional<TaskSetVersion> version = userTaskIndex.findSetVersion(userId, filter);
+            if (version.isPresent()) {
+                return version.get();
+            }
+        }
+        return taskRepository.findSetVersion(buildFilterSpec(userId, search, filter));
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<TaskResponse> getAllTasks(Long userId,
                                           String search,
                                           String status,
                                           String priority,
+                                          String due,
                                           int page,
                                           int size,
                                           String sortBy,
                                           String sortDir) {
-        Sort sort = sortDir.equalsIgnoreCase(Sort.Direction.ASC.name())
+        boolean ascending = sortDir.equalsIgnoreCase(Sort.Direction.ASC.name());
+        Sort sort = ascending
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Specification<Task> spec = buildFilterSpec(search, status, priority);
-        
-        // Filter by user - only show tasks assigned to this user
-        if (userId != null) {
-            spec = spec.and((root, query, cb) -> 
-                cb.equal(root.get("assignedTo").get("id"), userId)
-            );
+        UserTaskFilter filter = buildFilter(status, priority, due);
+        if (servedByUserIndex(userId, search, sortBy)) {
+            Optional<Page<TaskListRow>> rows = userTaskIndex.findPage(userId, filter, ascending, pageable);
+            if (rows.isPresent()) {
+                return rows.get().map(this::mapToTaskResponse);
+            }
         }
-        
-        Page<Task> tasksPage = taskRepository.findAll(spec, pageable);
 
-        return tasksPage.map(this::mapToTaskResponse);
+        Specification<Task> spec = buildFilterSpec(userId, search, filter);
+        Page<TaskListRow> rows = taskRepository.findListRows(spec, pageable);
+
+        return rows.map(this::mapToTaskResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamTasks(Long userId,
+                            String search,
+                            String status,
+                            String priority,
+                            String due,
+                            String sortBy,
+                            String sortDir,
+                            Consumer<TaskResponse> sink) {
+        // Ties broken by id so the order is stable
+        Sort sort = sortDir.equalsIgnoreCase(Sort.Direction.ASC.name())
+                ? Sort.by(sortBy).ascending().and(Sort.by("id").ascending())
+                : Sort.by(sortBy).descending().and(Sort.by("id").descending());
+
+        long rows = 0;
+        try (Stream<TaskListRow> stream = taskRepository.streamListRows(
+                buildFilterSpec(userId, search, buildFilter(status, priority, due)), sort)) {
+            Iterator<TaskListRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(mapToTaskResponse(iterator.next()));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskResponse> scrollTasks(Long userId,
+                                                   String search,
+                                                   String status,
+                                                   String priority,
+                                                   String due,
+                                                   String cursor,
+                                                   int size,
+                                                   String sortBy,
+                                                   String sortDir,
+                                                   boolean withTotal) {
+        // A cursor carries the sort it was issued for
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+        TaskSortKey sortKey = TaskSortKey.fromAttribute(after != null ? after.sortKey() : sortBy);
+        boolean ascending = after != null ? after.ascending() : sortDir.equalsIgnoreCase(Sort.Direction.ASC.name());
+        int pageSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+
+        Specification<Task> spec = buildFilterSpec(userId, search, buildFilter(status, priority, due));
+        List<TaskListRow> rows = taskRepository.scroll(spec, sortKey,
+                after != null ? after.readAscending() : ascending, after, pageSize + 1);
+
+        CursorPageDto<TaskResponse> slice = KeysetPageUtil.toPage(rows, pageSize, after, sortKey.attribute(), ascending,
+                row -> sortValue(row, sortKey), TaskListRow::id, this::mapToTaskResponse);
+
+        // An exact COUNT over the whole filter, so it is run once when scrolling starts and later
+        // pages leave it to the client's copy
+        if (withTotal && after == null) {
+            slice.setTotal(taskRepository.count(spec));
+        }
+        return slice;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(Long userId, String query, String status, String priority, int limit) {
+        TaskSearchFilter filter = new TaskSearchFilter(userId,
+                parseEnum(TaskStatus.class, status), parseEnum(Priority.class, priority));
+        List<Long> ids = taskSearchIndex.search(query, filter, Math.min(Math.max(limit, 1), MAX_SCROLL_SIZE));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Load the page of matches and restore the index ranking
+        Map<Long, TaskListRow> rowsById = taskRepository.findListRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskListRow::id, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToTaskResponse)
+                .toList();
+    }
+
+    private LocalDateTime sortValue(TaskListRow row, TaskSortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> null;
+            case CREATION_DATE -> row.creationDate();
+            case UPDATED_AT -> row.updatedAt();
+            case DUE_DATE -> row.dueDate();
+        };
     }
 }
 
@@ -0,0 +1,11 @@
+package org.task_manager.backend.stats;
+
+/**
+ * Distinct active users over a window
+ *
+ * @param count                 exact count, or an estimate when {@code exact} is false
+ * @param exact                 whether the count came from exact per-day id sets
+ * @param relativeStandardError expected relative error of an estimate (0 when exact)
+ */
+public record ActiveUserCount(long count, boolean exact, double relativeStandardError) {
+}
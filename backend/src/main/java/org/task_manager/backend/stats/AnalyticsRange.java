@@ -0,0 +1,97 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.util.TimeRangeUtil;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The time ranges of the user analytics page and the chart buckets each one is shown in
+ */
+public enum AnalyticsRange {
+
+    DAYS_7("7days", ChronoUnit.DAYS, 7, "EEE", 6),
+    DAYS_30("30days", ChronoUnit.DAYS, 30, "MMM d", 6),
+    DAYS_90("90days", ChronoUnit.WEEKS, 13, "MMM d", 6),
+    YEAR("year", ChronoUnit.MONTHS, 12, "MMM", 12);
+
+    private final String key;
+    private final ChronoUnit bucketUnit;
+    private final int buckets;
+    private final DateTimeFormatter bucketLabel;
+    private final int trendMonths;
+
+    AnalyticsRange(String key, ChronoUnit bucketUnit, int buckets, String bucketLabel, int trendMonths) {
+        this.key = key;
+        this.bucketUnit = bucketUnit;
+        this.buckets = buckets;
+        this.bucketLabel = DateTimeFormatter.ofPattern(bucketLabel);
+        this.trendMonths = trendMonths;
+    }
+
+    /**
+     * Parse a range parameter; unknown values fall back to 7 days like {@link TimeRangeUtil#getDateRange}
+     */
+    public static AnalyticsRange fromKey(String key) {
+        for (AnalyticsRange range : values()) {
+            if (range.key.equalsIgnoreCase(key)) {
+                return range;
+            }
+        }
+        return DAYS_7;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public ChronoUnit bucketUnit() {
+        return bucketUnit;
+    }
+
+    /**
+     * Number of activity chart buckets, the last one containing now
+     */
+    public int buckets() {
+        return buckets;
+    }
+
+    public DateTimeFormatter bucketLabel() {
+        return bucketLabel;
+    }
+
+    /**
+     * Number of months in the performance trend chart, the last one being the current month
+     */
+    public int trendMonths() {
+        return trendMonths;
+    }
+
+    /**
+     * Start of the first activity bucket: a day, a Monday or the first of a month
+     */
+    public LocalDateTime firstBucketStart(LocalDateTime now) {
+        return switch (bucketUnit) {
+            case WEEKS -> TimeRangeUtil.getStartOfWeek(now).minusWeeks(buckets - 1);
+            case MONTHS -> TimeRangeUtil.getStartOfDay(now).withDayOfMonth(1).minusMonths(buckets - 1);
+            default -> TimeRangeUtil.getStartOfDay(now).minusDays(buckets - 1);
+        };
+    }
+
+    /**
+     * Start of the first month of the performance trend
+     */
+    public LocalDateTime firstTrendMonthStart(LocalDateTime now) {
+        return TimeRangeUtil.getStartOfDay(now).withDayOfMonth(1).minusMonths(trendMonths - 1);
+    }
+
+    /**
+     * Start of the analytics window: the range start from {@link TimeRangeUtil#getDateRange},
+     * moved back to the start of the first chart bucket when that is earlier
+     */
+    public LocalDateTime windowStart(LocalDateTime rangeStart, LocalDateTime now) {
+        LocalDateTime bucketStart = firstBucketStart(now);
+        return bucketStart.isBefore(rangeStart) ? bucketStart : rangeStart;
+    }
+}
@@ -0,0 +1,217 @@
+package org.task_manager.backend.stats;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-sent event fan-out of live dashboard counters.
+ * A subscriber first receives a full "snapshot" event, then "delta" events holding only
+ * the counters that changed since the last event it was sent. Counters are read from the
+ * in-memory stores once per tick and shared by every subscriber, so a burst of task writes
+ * collapses into at most one delta per subscriber interval. Writes go through a dedicated
+ * executor, so a slow client delays only its own events, never the scheduler thread.
+ */
+@Slf4j
+@Component
+public class DashboardEventStream {
+
+    private static final long HEARTBEAT_NANOS = TimeUnit.SECONDS.toNanos(15);
+
+    private final TaskCounterStore taskCounterStore;
+    private final UserActivityRollup userActivityRollup;
+    private final long minIntervalMs;
+    private final long timeoutMs;
+    private final Executor streamExecutor;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public DashboardEventStream(TaskCounterStore taskCounterStore,
+                                UserActivityRollup userActivityRollup,
+                                @Value("${app.admin.stream.interval-ms:1000}") long minIntervalMs,
+                                @Value("${app.admin.stream.timeout-ms:1800000}") long timeoutMs,
+                                @Qualifier("dashboardStreamExecutor") Executor streamExecutor) {
+        this.taskCounterStore = taskCounterStore;
+        this.userActivityRollup = userActivityRollup;
+        this.minIntervalMs = minIntervalMs;
+        this.timeoutMs = timeoutMs;
+        this.streamExecutor = streamExecutor;
+    }
+
+    /**
+     * Open a stream. The interval can be raised per subscriber but not below the configured minimum.
+     */
+    public SseEmitter subscribe(Long intervalMs) {
+        long interval = Math.max(minIntervalMs, intervalMs != null ? intervalMs : minIntervalMs);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, TimeUnit.MILLISECONDS.toNanos(interval));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        if (subscriber.sendSnapshot(currentCounters(), System.nanoTime())) {
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Push pending changes to every subscriber whose interval has elapsed.
+     * The counters are re-read on every tick rather than on task events, because overdue
+     * counts also change as due dates pass. A subscriber still writing a previous event
+     * skips the tick and catches up on the next one.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.stream.interval-ms:1000}")
+    public void flush() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counters = currentCounters();
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.writing.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                streamExecutor.execute(() -> {
+                    try {
+                        if (!subscriber.flush(counters, now)) {
+                            subscribers.remove(subscriber);
+                        }
+                    } finally {
+                        subscriber.writing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                subscriber.writing.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Flat view of the live counters; nested dashboard fields use "parent.child" keys
+     */
+    private Map<String, Long> currentCounters() {
+        TaskCounts counts = taskCounterStore.snapshot();
+        LocalDate today = LocalDate.now();
+
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("totalTasks", counts.total());
+        counters.put("overdueTasks", counts.overdue());
+        counters.put("tasksThisWeek", counts.createdThisWeek());
+        counters.put("activeUsers", userActivityRollup.countActiveUsers(today.minusDays(6), today));
+        counts.dashboardStatusCounts().forEach((label, count) -> counters.put("taskStatusCounts." + label, count));
+        counts.dashboardPriorityCounts().forEach((label, count) -> counters.put("taskPriorityCounts." + label, count));
+        return counters;
+    }
+
+    /**
+     * Turn "parent.child" keys back into nested objects matching the dashboard stats
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toPayload(Map<String, Long> counters) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("seq", sequence.incrementAndGet());
+        counters.forEach((key, value) -> {
+            int dot = key.indexOf('.');
+            if (dot < 0) {
+                payload.put(key, value);
+            } else {
+                ((Map<String, Object>) payload.computeIfAbsent(key.substring(0, dot), k -> new LinkedHashMap<>()))
+                        .put(key.substring(dot + 1), value);
+            }
+        });
+        return payload;
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final long intervalNanos;
+        // Set while a flush is queued or running on the stream executor
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private Map<String, Long> lastSent = Map.of();
+        private long lastSentAt;
+
+        private Subscriber(SseEmitter emitter, long intervalNanos) {
+            this.emitter = emitter;
+            this.intervalNanos = intervalNanos;
+        }
+
+        private synchronized boolean sendSnapshot(Map<String, Long> counters, long now) {
+            return send(SseEmitter.event().name("snapshot"), counters, counters, now);
+        }
+
+        /**
+         * @return false once the connection is gone
+         */
+        private synchronized boolean flush(Map<String, Long> counters, long now) {
+            if (now - lastSentAt < intervalNanos) {
+                return true;
+            }
+
+            Map<String, Long> changed = new LinkedHashMap<>();
+            counters.forEach((key, value) -> {
+                if (!Objects.equals(lastSent.get(key), value)) {
+                    changed.put(key, value);
+                }
+            });
+
+            if (!changed.isEmpty()) {
+                return send(SseEmitter.event().name("delta"), changed, counters, now);
+            }
+            if (now - lastSentAt >= HEARTBEAT_NANOS) {
+                // Keeps proxies from closing an idle stream and detects dead clients
+                return send(SseEmitter.event().comment("keep-alive"), null, lastSent, now);
+            }
+            return true;
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event, Map<String, Long> data,
+                             Map<String, Long> state, long now) {
+            try {
+                if (data != null) {
+                    Map<String, Object> payload = toPayload(data);
+                    event.id(payload.get("seq").toString()).data(payload, MediaType.APPLICATION_JSON);
+                }
+                emitter.send(event);
+                lastSent = state;
+                lastSentAt = now;
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping dashboard stream subscriber: {}", e.getMessage());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
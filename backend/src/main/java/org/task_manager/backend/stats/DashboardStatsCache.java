@@ -0,0 +1,152 @@
+package org.task_manager.backend.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.task_manager.backend.event.TaskChangedEvent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot cache for the admin dashboard statistics.
+ * A snapshot is served until it is older than the staleness bound or has been invalidated.
+ * After that exactly one caller recomputes it while concurrent callers keep getting
+ * the previous snapshot (stale-while-revalidate).
+ */
+@Slf4j
+@Component
+public class DashboardStatsCache {
+
+    private record Snapshot(Map<String, Object> value, long computedAtNanos, long version) {
+    }
+
+    private final long maxStalenessNanos;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean recomputing = new AtomicBoolean(false);
+    private final AtomicLong version = new AtomicLong();
+    private final Object initialLoadLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder recomputeFailures = new LongAdder();
+    private final LongAdder recomputeNanos = new LongAdder();
+    private final AtomicLong lastRecomputeNanos = new AtomicLong();
+
+    public DashboardStatsCache(@Value("${app.admin.stats-cache.max-staleness-ms:10000}") long maxStalenessMs) {
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMs);
+    }
+
+    /**
+     * Get the cached statistics, recomputing them with the loader when needed
+     */
+    public Map<String, Object> get(Supplier<Map<String, Object>> loader) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            return loadInitial(loader);
+        }
+        if (isFresh(snapshot)) {
+            hits.increment();
+            return snapshot.value();
+        }
+
+        if (recomputing.compareAndSet(false, true)) {
+            misses.increment();
+            try {
+                return recompute(loader).value();
+            } catch (RuntimeException e) {
+                recomputeFailures.increment();
+                log.warn("Dashboard stats recompute failed, serving previous snapshot: {}", e.getMessage());
+                return snapshot.value();
+            } finally {
+                recomputing.set(false);
+            }
+        }
+
+        staleHits.increment();
+        return snapshot.value();
+    }
+
+    /**
+     * Mark the current snapshot as stale so the next caller triggers a recompute
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Invalidate after task writes; ordered after the counter stores have applied the change
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Cache hit/miss and recompute timing figures
+     */
+    public Map<String, Object> getMetrics() {
+        long hitCount = hits.sum();
+        long staleHitCount = staleHits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + staleHitCount + missCount;
+        Snapshot snapshot = current.get();
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("hits", hitCount);
+        metrics.put("staleHits", staleHitCount);
+        metrics.put("misses", missCount);
+        metrics.put("hitRatio", requests == 0 ? 0.0 : (hitCount + staleHitCount) / (double) requests);
+        metrics.put("recomputeFailures", recomputeFailures.sum());
+        metrics.put("avgRecomputeMs", missCount == 0 ? 0.0 : recomputeNanos.sum() / (double) missCount / 1_000_000);
+        metrics.put("lastRecomputeMs", lastRecomputeNanos.get() / 1_000_000.0);
+        metrics.put("maxStalenessMs", TimeUnit.NANOSECONDS.toMillis(maxStalenessNanos));
+        metrics.put("snapshotAgeMs", snapshot == null ? null
+                : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - snapshot.computedAtNanos()));
+        return metrics;
+    }
+
+    private Map<String, Object> loadInitial(Supplier<Map<String, Object>> loader) {
+        synchronized (initialLoadLock) {
+            Snapshot snapshot = current.get();
+            if (snapshot != null) {
+                hits.increment();
+                return snapshot.value();
+            }
+            misses.increment();
+            return recompute(loader).value();
+        }
+    }
+
+    private Snapshot recompute(Supplier<Map<String, Object>> loader) {
+        long startVersion = version.get();
+        long start = System.nanoTime();
+        Map<String, Object> value = loader.get();
+        long elapsed = System.nanoTime() - start;
+
+        recomputeNanos.add(elapsed);
+        lastRecomputeNanos.set(elapsed);
+
+        Snapshot snapshot = new Snapshot(Collections.unmodifiableMap(value), System.nanoTime(), startVersion);
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private boolean isFresh(Snapshot snapshot) {
+        return snapshot.version() == version.get()
+                && System.nanoTime() - snapshot.computedAtNanos() < maxStalenessNanos;
+    }
+}
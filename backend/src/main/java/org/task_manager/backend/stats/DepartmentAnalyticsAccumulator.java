@@ -0,0 +1,85 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.dto.DepartmentAnalyticsDto;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.DepartmentTaskRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task counts of one department, folded from its members' tasks the way {@link UserAnalyticsAccumulator}
+ * counts a single user's. Accumulators of disjoint sets of users can be merged, so a department's
+ * members may be counted on several threads.
+ */
+public class DepartmentAnalyticsAccumulator {
+
+    private final LocalDateTime now;
+
+    private int users;
+    private int total;
+    private final int[] byStatus = new int[TaskStatus.values().length];
+    private int completedWithDueDate;
+    private int completedOnTime;
+    private int overdue;
+
+    public DepartmentAnalyticsAccumulator(LocalDateTime now) {
+        this.now = now;
+    }
+
+    public void addUser() {
+        users++;
+    }
+
+    public void add(DepartmentTaskRow row) {
+        total++;
+        byStatus[row.status().ordinal()]++;
+
+        if (row.status() == TaskStatus.DONE) {
+            if (row.dueDate() != null) {
+                completedWithDueDate++;
+                if (row.completedAt() != null && row.completedAt().isBefore(row.dueDate())) {
+                    completedOnTime++;
+                }
+            }
+        } else if (row.dueDate() != null && row.dueDate().isBefore(now)) {
+            overdue++;
+        }
+    }
+
+    /**
+     * Add the counts of another set of the department's members
+     */
+    public void merge(DepartmentAnalyticsAccumulator other) {
+        users += other.users;
+        total += other.total;
+        for (int i = 0; i < byStatus.length; i++) {
+            byStatus[i] += other.byStatus[i];
+        }
+        completedWithDueDate += other.completedWithDueDate;
+        completedOnTime += other.completedOnTime;
+        overdue += other.overdue;
+    }
+
+    /**
+     * Rates and loads of the department, with throughput over a range of the given length in weeks
+     */
+    public DepartmentAnalyticsDto toDto(String department, double weeks) {
+        int completed = byStatus[TaskStatus.DONE.ordinal()];
+        double throughput = weeks > 0 ? completed / weeks : 0.0;
+
+        DepartmentAnalyticsDto dto = new DepartmentAnalyticsDto();
+        dto.setDepartment(department);
+        dto.setUsers(users);
+        dto.setTotalTasks(total);
+        dto.setCompletedTasks(completed);
+        dto.setInProgressTasks(byStatus[TaskStatus.IN_PROGRESS.ordinal()]);
+        dto.setPendingTasks(byStatus[TaskStatus.TODO.ordinal()]);
+        dto.setOverdueTasks(overdue);
+        dto.setCompletionRate(total == 0 ? 0.0 : (completed * 100.0) / total);
+        dto.setOnTimeRate(completedWithDueDate > 0 ? (completedOnTime * 100.0 / completedWithDueDate) : 100.0);
+        dto.setOverdueLoad(users == 0 ? 0.0 : (double) overdue / users);
+        dto.setThroughputPerWeek(throughput);
+        dto.setThroughputPerUserPerWeek(users == 0 ? 0.0 : throughput / users);
+        return dto;
+    }
+}
@@ -0,0 +1,138 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.dto.DepartmentAnalyticsDto;
+import org.task_manager.backend.repository.projection.DepartmentTaskRow;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Folds users' tasks into one {@link DepartmentAnalyticsAccumulator} per department.
+ * The parallel fold splits the users into partitions of similar work on a fork/join pool,
+ * counts each partition into its own accumulators and merges them pairwise on the way back up.
+ */
+public final class DepartmentAnalyticsAggregator {
+
+    // A partition with less work than this, in tasks plus users, is folded on one thread
+    static final int PARTITION_WORK = 4096;
+
+    /**
+     * A user with the department it is counted in, null when it has none, and its tasks
+     */
+    public record Member(String department, List<DepartmentTaskRow> tasks) {
+    }
+
+    /**
+     * Accumulators per department, and how many partitions were folded to get them
+     */
+    public record Result(Map<String, DepartmentAnalyticsAccumulator> departments, int partitions) {
+    }
+
+    private DepartmentAnalyticsAggregator() {
+    }
+
+    /**
+     * Fold every member on the calling thread
+     */
+    public static Map<String, DepartmentAnalyticsAccumulator> aggregate(List<Member> members, LocalDateTime now) {
+        return fold(members, 0, members.size(), now);
+    }
+
+    /**
+     * Fold the members in partitions on the pool
+     */
+    public static Result aggregate(ForkJoinPool pool, List<Member> members, LocalDateTime now) {
+        // work[i] is the work of the members before i, so a range's work is a difference
+        long[] work = new long[members.size() + 1];
+        for (int i = 0; i < members.size(); i++) {
+            work[i + 1] = work[i] + members.get(i).tasks().size() + 1;
+        }
+        return pool.invoke(new Partition(members, work, 0, members.size(), now));
+    }
+
+    /**
+     * One row per department, ordered by name with users without a department last
+     */
+    public static List<DepartmentAnalyticsDto> toDtos(Map<String, DepartmentAnalyticsAccumulator> departments,
+                                                      double weeks) {
+        return departments.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(entry -> entry.getValue().toDto(entry.getKey(), weeks))
+                .toList();
+    }
+
+    private static Map<String, DepartmentAnalyticsAccumulator> fold(List<Member> members, int from, int to,
+                                                                    LocalDateTime now) {
+        Map<String, DepartmentAnalyticsAccumulator> departments = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            Member member = members.get(i);
+            DepartmentAnalyticsAccumulator accumulator = departments.computeIfAbsent(
+                    member.department(), department -> new DepartmentAnalyticsAccumulator(now));
+            accumulator.addUser();
+            for (DepartmentTaskRow row : member.tasks()) {
+                accumulator.add(row);
+            }
+        }
+        return departments;
+    }
+
+    private static final class Partition extends RecursiveTask<Result> {
+
+        private final List<Member> members;
+        private final long[] work;
+        private final int from;
+        private final int to;
+        private final LocalDateTime now;
+
+        private Partition(List<Member> members, long[] work, int from, int to, LocalDateTime now) {
+            this.members = members;
+            this.work = work;
+            this.from = from;
+            this.to = to;
+            this.now = now;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from <= 1 || work[to] - work[from] <= PARTITION_WORK) {
+                return new Result(fold(members, from, to, now), 1);
+            }
+
+            // Split where half of the work is done, so users with many tasks do not leave one side idle
+            int split = Arrays.binarySearch(work, from, to + 1, work[from] + (work[to] - work[from]) / 2);
+            if (split < 0) {
+                split = -split - 1;
+            }
+            split = Math.min(Math.max(split, from + 1), to - 1);
+
+            Partition left = new Partition(members, work, from, split, now);
+            left.fork();
+            Result right = new Partition(members, work, split, to, now).compute();
+            return merge(left.join(), right);
+        }
+
+        private static Result merge(Result left, Result right) {
+            Map<String, DepartmentAnalyticsAccumulator> into = left.departments();
+            Map<String, DepartmentAnalyticsAccumulator> from = right.departments();
+            if (into.size() < from.size()) {
+                into = right.departments();
+                from = left.departments();
+            }
+            for (Map.Entry<String, DepartmentAnalyticsAccumulator> entry : from.entrySet()) {
+                DepartmentAnalyticsAccumulator accumulator = into.get(entry.getKey());
+                if (accumulator == null) {
+                    into.put(entry.getKey(), entry.getValue());
+                } else {
+                    accumulator.merge(entry.getValue());
+                }
+            }
+            return new Result(into, left.partitions() + right.partitions());
+        }
+    }
+}
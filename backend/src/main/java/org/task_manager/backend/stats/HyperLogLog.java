@@ -0,0 +1,94 @@
+package org.task_manager.backend.stats;
+
+/**
+ * Mergeable distinct-count sketch (HyperLogLog).
+ * With {@code m = 2^precision} one-byte registers the relative standard error of
+ * {@link #estimate()} is about {@code 1.04 / sqrt(m)}: 1.6% at the default precision of 12,
+ * using 4 KB regardless of how many ids are added. Merging two sketches gives the sketch
+ * of the union of their inputs, so per-day sketches can be combined over any window.
+ * Not thread-safe.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (64 - precision));
+        // Rank of the first set bit in the remaining bits; the sentinel bit bounds it
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Fold another sketch of the same precision into this one
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of different precision");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                emptyRegisters++;
+            }
+        }
+
+        // Linear counting is more accurate while enough registers are still empty.
+        // Switching on its own value rather than the raw estimate avoids the raw estimator's bias near 2.5m.
+        if (emptyRegisters > 0) {
+            double linearCount = m * Math.log((double) m / emptyRegisters);
+            if (linearCount <= 2.5 * m) {
+                return Math.round(linearCount);
+            }
+        }
+        // 64-bit hashes need no large-range correction
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        return Math.round(alpha * m * m / sum);
+    }
+
+    public double relativeStandardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3, spreads sequential ids over all bits
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
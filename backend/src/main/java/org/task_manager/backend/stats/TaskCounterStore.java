@@ -0,0 +1,139 @@
+package org.task_manager.backend.stats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.projection.DueDateCount;
+import org.task_manager.backend.util.TimeRangeUtil;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory task counters for the admin dashboard.
+ * Rebuilt from the database on startup, then kept up to date from committed task changes,
+ * so reading the counters never touches the tasks table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCounterStore {
+
+    private final TaskRepository taskRepository;
+
+    private final Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+    private long total;
+
+    // Open tasks whose due date was before the watermark
+    private long overdue;
+    // Open tasks due at or after the watermark, keyed by due date
+    private final TreeMap<LocalDateTime, Long> upcomingDueDates = new TreeMap<>();
+    private LocalDateTime watermark;
+
+    private LocalDateTime weekStart;
+    private long createdThisWeek;
+
+    /**
+     * Reload every counter from the database
+     */
+    @PostConstruct
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        watermark = now;
+        weekStart = TimeRangeUtil.getStartOfWeek(now);
+
+        TaskCounts counts = TaskCounts.from(taskRepository.countByStatusAndPriority(now, weekStart));
+        statusCounts.clear();
+        statusCounts.putAll(counts.statusCounts());
+        priorityCounts.clear();
+        priorityCounts.putAll(counts.priorityCounts());
+        total = counts.total();
+        overdue = counts.overdue();
+        createdThisWeek = counts.createdThisWeek();
+
+        upcomingDueDates.clear();
+        for (DueDateCount row : taskRepository.countOpenTasksByDueDateFrom(now)) {
+            upcomingDueDates.put(row.getDueDate(), row.getTotal());
+        }
+
+        log.info("Task counters rebuilt: {} tasks, {} overdue, {} created this week", total, overdue, createdThisWeek);
+    }
+
+    /**
+     * Apply a committed task change to the counters
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        advance(LocalDateTime.now());
+        if (event.before() != null) {
+            apply(event.before(), -1);
+        }
+        if (event.after() != null) {
+            apply(event.after(), 1);
+        }
+    }
+
+    /**
+     * Get a consistent copy of the current counters
+     */
+    public synchronized TaskCounts snapshot() {
+        advance(LocalDateTime.now());
+        return new TaskCounts(total, statusCounts, priorityCounts, overdue, createdThisWeek);
+    }
+
+    private void apply(TaskSnapshot task, int delta) {
+        total += delta;
+        if (task.status() != null) {
+            statusCounts.merge(task.status(), (long) delta, Long::sum);
+        }
+        if (task.priority() != null) {
+            priorityCounts.merge(task.priority(), (long) delta, Long::sum);
+        }
+
+        if (task.creationDate() != null && !task.creationDate().isBefore(weekStart)) {
+            createdThisWeek += delta;
+        }
+
+        if (task.isOpen() && task.dueDate() != null) {
+            if (task.dueDate().isBefore(watermark)) {
+                overdue += delta;
+            } else {
+                upcomingDueDates.merge(task.dueDate(), (long) delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+    }
+
+    /**
+     * Move the clock forward: due dates that have passed become overdue,
+     * and the weekly counter resets on a new week
+     */
+    private void advance(LocalDateTime now) {
+        if (now.isAfter(watermark)) {
+            NavigableMap<LocalDateTime, Long> passed = upcomingDueDates.headMap(now, false);
+            for (long count : passed.values()) {
+                overdue += count;
+            }
+            passed.clear();
+            watermark = now;
+        }
+
+        LocalDateTime currentWeekStart = TimeRangeUtil.getStartOfWeek(now);
+        if (currentWeekStart.isAfter(weekStart)) {
+            weekStart = currentWeekStart;
+            createdThisWeek = 0;
+        }
+    }
+}
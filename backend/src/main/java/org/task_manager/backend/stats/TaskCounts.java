@@ -0,0 +1,91 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.TaskCountRow;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time task counters used by the admin dashboard
+ */
+public record TaskCounts(
+        long total,
+        Map<TaskStatus, Long> statusCounts,
+        Map<Priority, Long> priorityCounts,
+        long overdue,
+        long createdThisWeek
+) {
+
+    public TaskCounts {
+        Map<TaskStatus, Long> statusCopy = new EnumMap<>(TaskStatus.class);
+        statusCopy.putAll(statusCounts);
+        Map<Priority, Long> priorityCopy = new EnumMap<>(Priority.class);
+        priorityCopy.putAll(priorityCounts);
+        statusCounts = Collections.unmodifiableMap(statusCopy);
+        priorityCounts = Collections.unmodifiableMap(priorityCopy);
+    }
+
+    /**
+     * Fold the rows of the status x priority aggregate query into totals
+     */
+    public static TaskCounts from(List<TaskCountRow> rows) {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        long total = 0;
+        long overdue = 0;
+        long createdSince = 0;
+
+        for (TaskCountRow row : rows) {
+            if (row.getStatus() != null) {
+                statusCounts.merge(row.getStatus(), row.getTotal(), Long::sum);
+            }
+            if (row.getPriority() != null) {
+                priorityCounts.merge(row.getPriority(), row.getTotal(), Long::sum);
+            }
+            total += row.getTotal();
+            overdue += row.getOverdue();
+            createdSince += row.getCreatedSince();
+        }
+
+        return new TaskCounts(total, statusCounts, priorityCounts, overdue, createdSince);
+    }
+
+    public long countByStatus(TaskStatus status) {
+        return statusCounts.getOrDefault(status, 0L);
+    }
+
+    public long countByPriority(Priority priority) {
+        return priorityCounts.getOrDefault(priority, 0L);
+    }
+
+    public long completed() {
+        return countByStatus(TaskStatus.DONE);
+    }
+
+    /**
+     * Status counts keyed by the labels the admin dashboard uses
+     */
+    public Map<String, Long> dashboardStatusCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("PENDING", countByStatus(TaskStatus.TODO));
+        counts.put("IN_PROGRESS", countByStatus(TaskStatus.IN_PROGRESS));
+        counts.put("COMPLETED", countByStatus(TaskStatus.DONE));
+        return counts;
+    }
+
+    /**
+     * Priority counts keyed by the labels the admin dashboard uses
+     */
+    public Map<String, Long> dashboardPriorityCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("HIGH", countByPriority(Priority.HIGH));
+        counts.put("MEDIUM", countByPriority(Priority.MEDIUM));
+        counts.put("LOW", countByPriority(Priority.LOW));
+        return counts;
+    }
+}
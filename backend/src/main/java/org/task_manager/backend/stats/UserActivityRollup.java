@@ -0,0 +1,158 @@
+package org.task_manager.backend.stats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.event.TasksReassignedEvent;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.projection.TaskActivityView;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.TreeMap;
+
+/**
+ * Per-day active users.
+ * A user is active on a day when a task assigned to them was created, updated,
+ * started or completed that day. Recent days keep the exact id sets as compressed
+ * bitmaps; a longer history keeps only a {@link HyperLogLog} sketch per day.
+ * Multi-day figures are unions of the per-day sets or sketches, so the tasks table
+ * is only read once at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserActivityRollup {
+
+    /**
+     * Number of days with exact id sets, including today
+     */
+    public static final int RETENTION_DAYS = 90;
+
+    /**
+     * Number of days with distinct-count sketches, including today
+     */
+    public static final int SKETCH_RETENTION_DAYS = 365;
+
+    private final TaskRepository taskRepository;
+
+    private final TreeMap<LocalDate, Roaring64Bitmap> activeUsersByDay = new TreeMap<>();
+    private final TreeMap<LocalDate, HyperLogLog> sketchesByDay = new TreeMap<>();
+
+    /**
+     * Backfill the retained days from task timestamps
+     */
+    @PostConstruct
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        activeUsersByDay.clear();
+        sketchesByDay.clear();
+
+        for (TaskActivityView task : taskRepository.findActivitySince(firstSketchDay(today).atStartOfDay())) {
+            markActive(task.getUserId(), task.getCreationDate(), today);
+            markActive(task.getUserId(), task.getUpdatedAt(), today);
+            markActive(task.getUserId(), task.getStartedAt(), today);
+            markActive(task.getUserId(), task.getCompletedAt(), today);
+        }
+        activeUsersByDay.values().forEach(Roaring64Bitmap::runOptimize);
+
+        log.info("User activity rollup rebuilt: {} exact days, {} sketched days",
+                activeUsersByDay.size(), sketchesByDay.size());
+    }
+
+    /**
+     * Record activity for the assignee of a created or updated task
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot task = event.after();
+        if (task == null || task.assignedToId() == null) {
+            return;
+        }
+        markActive(task.assignedToId(), LocalDate.now());
+    }
+
+    /**
+     * Record activity for the user that received tasks in a bulk reassignment
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        if (event.toUserId() != null) {
+            markActive(event.toUserId(), LocalDate.now());
+        }
+    }
+
+    public synchronized void markActive(Long userId, LocalDate day) {
+        LocalDate today = LocalDate.now();
+        activeUsersByDay.headMap(firstRetainedDay(today)).clear();
+        sketchesByDay.headMap(firstSketchDay(today)).clear();
+        add(userId, day, today);
+    }
+
+    /**
+     * Count users active on a single day; estimated for days older than the exact retention
+     */
+    public synchronized long countActiveUsers(LocalDate day) {
+        return countActiveUsersBetween(day, day).count();
+    }
+
+    /**
+     * Count distinct users active on any day between two dates (inclusive);
+     * estimated when the window starts before the exact retention
+     */
+    public synchronized long countActiveUsers(LocalDate from, LocalDate to) {
+        return countActiveUsersBetween(from, to).count();
+    }
+
+    /**
+     * Distinct users active on any day between two dates (inclusive).
+     * Exact while the window lies within the last {@value #RETENTION_DAYS} days, otherwise a
+     * sketch estimate with the stated relative standard error, up to {@value #SKETCH_RETENTION_DAYS} days back.
+     */
+    public synchronized ActiveUserCount countActiveUsersBetween(LocalDate from, LocalDate to) {
+        if (!from.isBefore(firstRetainedDay(LocalDate.now()))) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            for (Roaring64Bitmap users : activeUsersByDay.subMap(from, true, to, true).values()) {
+                union.or(users);
+            }
+            return new ActiveUserCount(union.getLongCardinality(), true, 0);
+        }
+
+        HyperLogLog union = new HyperLogLog();
+        for (HyperLogLog sketch : sketchesByDay.subMap(from, true, to, true).values()) {
+            union.merge(sketch);
+        }
+        return new ActiveUserCount(union.estimate(), false, union.relativeStandardError());
+    }
+
+    private void markActive(Long userId, LocalDateTime timestamp, LocalDate today) {
+        if (userId != null && timestamp != null) {
+            add(userId, timestamp.toLocalDate(), today);
+        }
+    }
+
+    private void add(Long userId, LocalDate day, LocalDate today) {
+        if (!day.isBefore(firstRetainedDay(today))) {
+            activeUsersByDay.computeIfAbsent(day, d -> new Roaring64Bitmap()).addLong(userId);
+        }
+        if (!day.isBefore(firstSketchDay(today))) {
+            sketchesByDay.computeIfAbsent(day, d -> new HyperLogLog()).add(userId);
+        }
+    }
+
+    private static LocalDate firstRetainedDay(LocalDate today) {
+        return today.minusDays(RETENTION_DAYS - 1);
+    }
+
+    private static LocalDate firstSketchDay(LocalDate today) {
+        return today.minusDays(SKETCH_RETENTION_DAYS - 1);
+    }
+}
@@ -0,0 +1,239 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.dto.DailyActivityDto;
+import org.task_manager.backend.dto.PerformanceTrendDto;
+import org.task_manager.backend.dto.PriorityDistributionDto;
+import org.task_manager.backend.dto.RecentActivityDto;
+import org.task_manager.backend.dto.StatsDto;
+import org.task_manager.backend.dto.UserAnalyticsDetailDto;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.TaskListRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the user analytics page shows, gathered in one pass over the user's tasks.
+ * Counters are primitive arrays indexed by status and priority; the most recently updated tasks
+ * are kept in a small sorted buffer instead of sorting the whole list.
+ * The activity chart and the monthly performance trend are fed separately from daily and monthly
+ * rollup counts, since they count state changes rather than current task states.
+ * Not thread-safe: one accumulator per request.
+ */
+public final class UserAnalyticsAccumulator {
+
+    private static final int RECENT = 10;
+
+    private static final DateTimeFormatter MONTH_LABEL = DateTimeFormatter.ofPattern("MMM");
+
+    private final AnalyticsRange range;
+    private final LocalDateTime now;
+    private final LocalDate firstBucket;
+    private final long firstBucketEpochDay;
+    private final int firstBucketMonth;
+    private final LocalDate firstTrendMonth;
+    private final int firstTrendMonthIndex;
+
+    private int total;
+    private final int[] byStatus = new int[TaskStatus.values().length];
+    private final int[] byPriority = new int[Priority.values().length];
+    private int overdue;
+    private LocalDateTime nextDueDate;
+    private int completedWithDueDate;
+    private int completedOnTime;
+
+    private final int[] bucketCompleted;
+    private final int[] bucketStarted;
+    private final long[] monthlyCompleted;
+    private final long[] monthlyCompletedOnTime;
+
+    // Most recently updated first; nulls last and ties in encounter order, like a stable sort
+    private int recentSize;
+    private final Long[] recentIds = new Long[RECENT];
+    private final String[] recentTitles = new String[RECENT];
+    private final TaskStatus[] recentStatuses = new TaskStatus[RECENT];
+    private final LocalDateTime[] recentUpdatedAt = new LocalDateTime[RECENT];
+
+    public UserAnalyticsAccumulator(AnalyticsRange range, LocalDateTime now) {
+        this.range = range;
+        this.now = now;
+        this.firstBucket = range.firstBucketStart(now).toLocalDate();
+        this.firstBucketEpochDay = firstBucket.toEpochDay();
+        this.firstBucketMonth = monthIndex(firstBucket.getYear(), firstBucket.getMonthValue());
+        this.firstTrendMonth = range.firstTrendMonthStart(now).toLocalDate();
+        this.firstTrendMonthIndex = monthIndex(firstTrendMonth.getYear(), firstTrendMonth.getMonthValue());
+        this.bucketCompleted = new int[range.buckets()];
+        this.bucketStarted = new int[range.buckets()];
+        this.monthlyCompleted = new long[range.trendMonths()];
+        this.monthlyCompletedOnTime = new long[range.trendMonths()];
+    }
+
+    public void add(TaskListRow row) {
+        add(row.id(), row.title(), row.status(), row.priority(), row.updatedAt(), row.completedAt(), row.dueDate());
+    }
+
+    public void add(Long id, String title, TaskStatus status, Priority priority,
+                    LocalDateTime updatedAt, LocalDateTime completedAt, LocalDateTime dueDate) {
+        total++;
+        byStatus[status.ordinal()]++;
+        // Tasks without a priority are shown as MEDIUM
+        byPriority[(priority != null ? priority : Priority.MEDIUM).ordinal()]++;
+
+        if (status == TaskStatus.DONE) {
+            // On time as the daily stats rollup counts it: completed before the due date
+            if (dueDate != null) {
+                completedWithDueDate++;
+                if (completedAt != null && completedAt.isBefore(dueDate)) {
+                    completedOnTime++;
+                }
+            }
+        } else if (dueDate != null && dueDate.isBefore(now)) {
+            overdue++;
+        } else if (dueDate != null && (nextDueDate == null || dueDate.isBefore(nextDueDate))) {
+            nextDueDate = dueDate;
+        }
+
+        addRecent(id, title, status, updatedAt);
+    }
+
+    /**
+     * Add the tasks started and completed on a day to the activity chart; days outside it are ignored
+     */
+    public void addDailyActivity(LocalDate day, long started, long completed) {
+        int bucket = bucketIndex(day);
+        if (bucket >= 0 && bucket < bucketCompleted.length) {
+            bucketStarted[bucket] += (int) started;
+            bucketCompleted[bucket] += (int) completed;
+        }
+    }
+
+    /**
+     * Add tasks completed in a calendar month to the performance trend; months outside it are ignored
+     */
+    public void addMonthlyCompletions(int year, int month, long completed, long completedOnTime) {
+        int index = monthIndex(year, month) - firstTrendMonthIndex;
+        if (index >= 0 && index < monthlyCompleted.length) {
+            monthlyCompleted[index] += completed;
+            monthlyCompletedOnTime[index] += completedOnTime;
+        }
+    }
+
+    /**
+     * Earliest due date of an open task that is not overdue yet, when the overdue count will change; null if none
+     */
+    public LocalDateTime nextDueDate() {
+        return nextDueDate;
+    }
+
+    /**
+     * Fill the task-derived parts of the analytics: stats, charts, recent activity and summary counts
+     */
+    public void writeTo(UserAnalyticsDetailDto analytics) {
+        int completed = byStatus[TaskStatus.DONE.ordinal()];
+        int inProgress = byStatus[TaskStatus.IN_PROGRESS.ordinal()];
+        int pending = byStatus[TaskStatus.TODO.ordinal()];
+        double completionRate = total == 0 ? 0.0 : (completed * 100.0) / total;
+
+        StatsDto stats = new StatsDto();
+        stats.setTasksCompleted((long) completed);
+        stats.setTasksInProgress((long) inProgress);
+        stats.setTasksPending((long) pending);
+        stats.setCompletionRate(completionRate);
+        stats.setOnTimeRate(completedWithDueDate > 0 ? (completedOnTime * 100.0 / completedWithDueDate) : 100.0);
+        stats.setProductivityScore(productivityScore(completionRate, inProgress));
+        stats.setAvgTaskTime(0.0); // Placeholder
+        analytics.setStats(stats);
+
+        List<DailyActivityDto> dailyActivity = new ArrayList<>(bucketCompleted.length);
+        for (int i = 0; i < bucketCompleted.length; i++) {
+            LocalDate bucketStart = firstBucket.plus(i, range.bucketUnit());
+            dailyActivity.add(new DailyActivityDto(bucketStart.format(range.bucketLabel()),
+                    bucketCompleted[i], bucketStarted[i]));
+        }
+        analytics.setDailyActivity(dailyActivity);
+
+        List<PriorityDistributionDto> distribution = new ArrayList<>(3);
+        distribution.add(new PriorityDistributionDto("High", byPriority[Priority.HIGH.ordinal()], "#ef4444"));
+        distribution.add(new PriorityDistributionDto("Medium", byPriority[Priority.MEDIUM.ordinal()], "#f59e0b"));
+        distribution.add(new PriorityDistributionDto("Low", byPriority[Priority.LOW.ordinal()], "#10b981"));
+        analytics.setPriorityDistribution(distribution);
+
+        List<PerformanceTrendDto> trends = new ArrayList<>(monthlyCompleted.length);
+        for (int i = 0; i < monthlyCompleted.length; i++) {
+            // Quality score: percentage of on-time completion
+            double quality = monthlyCompleted[i] > 0 ? (monthlyCompletedOnTime[i] * 100.0 / monthlyCompleted[i]) : 0.0;
+            trends.add(new PerformanceTrendDto(firstTrendMonth.plusMonths(i).format(MONTH_LABEL),
+                    (int) monthlyCompleted[i], quality));
+        }
+        analytics.setPerformanceTrends(trends);
+
+        List<RecentActivityDto> recent = new ArrayList<>(recentSize);
+        for (int i = 0; i < recentSize; i++) {
+            recent.add(new RecentActivityDto(recentIds[i], recentTitles[i], recentStatuses[i].toString(), recentUpdatedAt[i]));
+        }
+        analytics.setRecentActivities(recent);
+
+        analytics.setCompletionRate(completionRate);
+        analytics.setTotalTasksAssigned(total);
+        analytics.setCompletedTasks(completed);
+        analytics.setInProgressTasks(inProgress);
+        analytics.setPendingTasks(pending);
+        analytics.setOverdueTasks(overdue);
+    }
+
+    private Integer productivityScore(double completionRate, int inProgress) {
+        if (total == 0) {
+            return 50;
+        }
+        double score = (completionRate * 0.6) +
+                (inProgress > 0 ? 20 : 0) +
+                (overdue == 0 ? 20 : Math.max(0, 20 - (overdue * 5)));
+        return Math.min(100, (int) score);
+    }
+
+    private void addRecent(Long id, String title, TaskStatus status, LocalDateTime updatedAt) {
+        // Find the slot: after every entry updated at the same time or later
+        int slot = recentSize;
+        while (slot > 0 && isMoreRecent(updatedAt, recentUpdatedAt[slot - 1])) {
+            slot--;
+        }
+        if (slot >= RECENT) {
+            return;
+        }
+        int last = Math.min(recentSize, RECENT - 1);
+        for (int i = last; i > slot; i--) {
+            recentIds[i] = recentIds[i - 1];
+            recentTitles[i] = recentTitles[i - 1];
+            recentStatuses[i] = recentStatuses[i - 1];
+            recentUpdatedAt[i] = recentUpdatedAt[i - 1];
+        }
+        recentIds[slot] = id;
+        recentTitles[slot] = title;
+        recentStatuses[slot] = status;
+        recentUpdatedAt[slot] = updatedAt;
+        recentSize = Math.min(recentSize + 1, RECENT);
+    }
+
+    private static boolean isMoreRecent(LocalDateTime candidate, LocalDateTime held) {
+        if (candidate == null) {
+            return false;
+        }
+        return held == null || candidate.isAfter(held);
+    }
+
+    private int bucketIndex(LocalDate day) {
+        return switch (range.bucketUnit()) {
+            case WEEKS -> (int) Math.floorDiv(day.toEpochDay() - firstBucketEpochDay, 7);
+            case MONTHS -> monthIndex(day.getYear(), day.getMonthValue()) - firstBucketMonth;
+            default -> (int) (day.toEpochDay() - firstBucketEpochDay);
+        };
+    }
+
+    private static int monthIndex(int year, int month) {
+        return year * 12 + month - 1;
+    }
+}
@@ -0,0 +1,246 @@
+package org.task_manager.backend.stats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.task_manager.backend.dto.RecentActivityDto;
+import org.task_manager.backend.dto.UserAnalyticsDetailDto;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TasksReassignedEvent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Computed user analytics per user and range, so reloading the analytics page does not rerun its queries.
+ * An entry is dropped once a change to a task the user is or was assigned commits, and expires at the
+ * instant its loader gives, such as the next day boundary.
+ * Entries are evicted least recently used first once the estimated size passes the memory budget.
+ */
+@Component
+public class UserAnalyticsCache {
+
+    // Rough footprint of the dto with its stats and lists, and of one chart point or recent activity, excluding strings
+    private static final long ENTRY_OVERHEAD_BYTES = 1024;
+    private static final long ITEM_OVERHEAD_BYTES = 96;
+
+    /**
+     * Analytics as computed by a loader, and the instant they stop being valid
+     */
+    public record Computed(UserAnalyticsDetailDto analytics, Instant expiresAt) {
+    }
+
+    private record Key(Long userId, AnalyticsRange range) {
+    }
+
+    private record Entry(UserAnalyticsDetailDto analytics, long expiresAtMillis, long bytes) {
+    }
+
+    // A load in flight; marked stale when the user's tasks change before it finishes
+    private static final class Load {
+        private boolean stale;
+    }
+
+    private final long maxBytes;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, List<Load>> loading = new HashMap<>();
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserAnalyticsCache(@Value("${app.analytics.cache.max-bytes:16777216}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get the user's analytics for the range, computing them with the loader when they are not cached
+     */
+    public UserAnalyticsDetailDto get(Long userId, AnalyticsRange range, Supplier<Computed> loader) {
+        Key key = new Key(userId, range);
+        Load load = new Load();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (System.currentTimeMillis() < entry.expiresAtMillis()) {
+                    hits.increment();
+                    return entry.analytics();
+                }
+                remove(key);
+                expirations.increment();
+            }
+            misses.increment();
+            loading.computeIfAbsent(userId, id -> new ArrayList<>()).add(load);
+        }
+
+        Computed computed;
+        try {
+            computed = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                finish(userId, load);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            finish(userId, load);
+            // A change committed during the load may be missing from it
+            if (!load.stale) {
+                store(key, computed);
+            }
+        }
+        return computed.analytics();
+    }
+
+    /**
+     * Drop the analytics of the users whose tasks changed
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.before() != null) {
+            invalidate(event.before().assignedToId());
+        }
+        if (event.after() != null) {
+            invalidate(event.after().assignedToId());
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        invalidate(event.fromUserId());
+        invalidate(event.toUserId());
+    }
+
+    /**
+     * Drop every range of a user's analytics, and keep loads in flight from caching what they read
+     */
+    public synchronized void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        for (AnalyticsRange range : AnalyticsRange.values()) {
+            if (remove(new Key(userId, range))) {
+                invalidations.increment();
+            }
+        }
+        List<Load> loads = loading.get(userId);
+        if (loads != null) {
+            loads.forEach(load -> load.stale = true);
+        }
+    }
+
+    /**
+     * Drop a user's analytics once the current transaction commits, for changes to the user itself
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    /**
+     * Drop everything, after changes that are not tied to single users
+     */
+    public synchronized void clear() {
+        invalidations.add(entries.size());
+        entries.clear();
+        totalBytes = 0;
+        loading.values().forEach(loads -> loads.forEach(load -> load.stale = true));
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long requests = hitCount + misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("estimatedBytes", totalBytes);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hitCount);
+        stats.put("misses", misses.sum());
+        stats.put("hitRatio", requests == 0 ? 0.0 : hitCount / (double) requests);
+        stats.put("expirations", expirations.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    private void finish(Long userId, Load load) {
+        List<Load> loads = loading.get(userId);
+        loads.remove(load);
+        if (loads.isEmpty()) {
+            loading.remove(userId);
+        }
+    }
+
+    private void store(Key key, Computed computed) {
+        long expiresAtMillis = computed.expiresAt().toEpochMilli();
+        long bytes = estimateBytes(computed.analytics());
+        if (expiresAtMillis <= System.currentTimeMillis() || bytes > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, new Entry(computed.analytics(), expiresAtMillis, bytes));
+        totalBytes += bytes;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().bytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private boolean remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        totalBytes -= removed.bytes();
+        return true;
+    }
+
+    private static long estimateBytes(UserAnalyticsDetailDto analytics) {
+        long bytes = ENTRY_OVERHEAD_BYTES + chars(analytics.getUsername()) + chars(analytics.getEmail());
+        bytes += ITEM_OVERHEAD_BYTES * (size(analytics.getDailyActivity()) + size(analytics.getPerformanceTrends())
+                + size(analytics.getPriorityDistribution()) + size(analytics.getRecentActivities()));
+        if (analytics.getRecentActivities() != null) {
+            for (RecentActivityDto activity : analytics.getRecentActivities()) {
+                bytes += chars(activity.getTitle());
+            }
+        }
+        return bytes;
+    }
+
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    private static long chars(String value) {
+        return value != null ? 2L * value.length() : 0;
+    }
+}
@@ -0,0 +1,343 @@
+package org.task_manager.backend.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task_manager.backend.event.TaskChangedEvent;
+import org.task_manager.backend.event.TaskSnapshot;
+import org.task_manager.backend.event.TasksReassignedEvent;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserDailyStatsRepository;
+import org.task_manager.backend.repository.projection.TaskRollupView;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the user_daily_stats rollup read by the analytics charts.
+ * A task change adds the counts of its new state and subtracts those of its old one; the changes of a
+ * transaction are summed per row and written once it commits, in a transaction of their own. A failed
+ * write is only logged: the nightly {@link #reconcile} recomputes recent days from the tasks. It is also
+ * the only writer of overdue-at-end-of-day counts, which no single change determines.
+ * Rows follow the task's current assignee and priority.
+ */
+@Slf4j
+@Component
+public class UserDailyStatsRollup {
+
+    /**
+     * Number of days kept, including today: a year of monthly trend buckets and then some
+     */
+    public static final int RETENTION_DAYS = 400;
+
+    private static final String ADD_DELTA = "INSERT INTO user_daily_stats " +
+            "(user_id, stat_date, priority, created, started, completed, completed_on_time) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE created = created + VALUES(created), " +
+            "started = started + VALUES(started), completed = completed + VALUES(completed), " +
+            "completed_on_time = completed_on_time + VALUES(completed_on_time)";
+
+    private static final String INSERT_ROW = "INSERT INTO user_daily_stats " +
+            "(user_id, stat_date, priority, created, started, completed, completed_on_time, overdue_at_eod) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Positions in the per-row counters
+    private static final int CREATED = 0;
+    private static final int STARTED = 1;
+    private static final int COMPLETED = 2;
+    private static final int COMPLETED_ON_TIME = 3;
+    private static final int OVERDUE_AT_EOD = 4;
+
+    private record Key(Long userId, LocalDate day, Priority priority) {
+    }
+
+    // Same order in every writer, so concurrent upserts lock rows in the same order
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::userId)
+            .thenComparing(Key::day)
+            .thenComparing(Key::priority);
+
+    private final TaskRepository taskRepository;
+    private final UserDailyStatsRepository userDailyStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserDailyStatsRollup(TaskRepository taskRepository,
+                                UserDailyStatsRepository userDailyStatsRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.userDailyStatsRepository = userDailyStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Also used after a commit, when the finished transaction is still bound to the thread
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Build the rollup after the first start on an existing database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        if (jdbcTemplate.queryForList("SELECT 1 FROM user_daily_stats LIMIT 1").isEmpty()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Add a task change to the pending counts of the current transaction
+     */
+    @Order(0)
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        Map<Key, int[]> deltas = inTransaction ? transactionDeltas() : new HashMap<>();
+        LocalDate firstDay = firstRetainedDay(LocalDate.now());
+        count(deltas, event.before(), -1, firstDay);
+        count(deltas, event.after(), 1, firstDay);
+        if (!inTransaction) {
+            applyDeltas(deltas);
+        }
+    }
+
+    /**
+     * Recount both users of a bulk reassignment, which publishes no per-task changes
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        LocalDate today = LocalDate.now();
+        reconcile(firstRetainedDay(today), today, event.fromUserId());
+        if (event.toUserId() != null) {
+            reconcile(firstRetainedDay(today), today, event.toUserId());
+        }
+    }
+
+    /**
+     * Recompute every retained day and drop older rows
+     */
+    public Map<String, Object> rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int rows = reconcile(firstRetainedDay(today), today, null);
+        int pruned = prune();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("from", firstRetainedDay(today));
+        result.put("to", today);
+        result.put("rows", rows);
+        result.put("pruned", pruned);
+        result.put("millis", System.currentTimeMillis() - start);
+        log.info("User daily stats rebuilt: {}", result);
+        return result;
+    }
+
+    /**
+     * Recompute the rows of the days between two dates (inclusive) from the tasks, for every user
+     * or only one. Overdue counts are written for days that have ended.
+     * A task change committed while this runs may be missing or counted twice until the next run.
+     *
+     * @return number of rows written
+     */
+    public int reconcile(LocalDate from, LocalDate to, Long userId) {
+        LocalDate today = LocalDate.now();
+        LocalDate first = max(from, firstRetainedDay(today));
+        LocalDate last = min(to, today);
+        if (first.isAfter(last)) {
+            return 0;
+        }
+        LocalDate lastEnded = min(last, today.minusDays(1));
+
+        Integer rows = transactionTemplate.execute(status -> {
+            // Deleted before the tasks are read: the delete waits for delta writes already holding these rows
+            if (userId == null) {
+                userDailyStatsRepository.deleteByStatDateBetween(first, last);
+            } else {
+                userDailyStatsRepository.deleteByUserIdAndStatDateBetween(userId, first, last);
+            }
+
+            Map<Key, int[]> counts = new HashMap<>();
+            try (Stream<TaskRollupView> tasks = taskRepository.streamForDailyStats(
+                    userId, first.atStartOfDay(), last.plusDays(1).atStartOfDay())) {
+                tasks.forEach(task -> {
+                    count(counts, task.getUserId(), priorityOf(task.getPriority()), task.getStatus(),
+                            task.getCreationDate(), task.getStartedAt(), task.getCompletedAt(), task.getDueDate(),
+                            1, first, last);
+                    countOverdue(counts, task, first, lastEnded);
+                });
+            }
+
+            List<Object[]> inserts = sorted(counts).stream()
+                    .map(entry -> {
+                        Key key = entry.getKey();
+                        int[] c = entry.getValue();
+                        return new Object[]{key.userId(), key.day(), key.priority().name(), c[CREATED],
+                                c[STARTED], c[COMPLETED], c[COMPLETED_ON_TIME], c[OVERDUE_AT_EOD]};
+                    })
+                    .toList();
+            jdbcTemplate.batchUpdate(INSERT_ROW, inserts);
+            return inserts.size();
+        });
+        log.debug("Reconciled user daily stats {} to {} for {}: {} rows",
+                first, last, userId != null ? "user " + userId : "all users", rows);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Delete rows older than the retention
+     */
+    public int prune() {
+        Integer pruned = transactionTemplate.execute(status ->
+                userDailyStatsRepository.deleteByStatDateBefore(firstRetainedDay(LocalDate.now())));
+        return pruned != null ? pruned : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, int[]> transactionDeltas() {
+        Map<Key, int[]> deltas = (Map<Key, int[]>) TransactionSynchronizationManager.getResource(this);
+        if (deltas != null) {
+            return deltas;
+        }
+        Map<Key, int[]> pending = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Ahead of the after-commit listeners, so caches they invalidate reload the new counts
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                applyDeltas(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UserDailyStatsRollup.this);
+            }
+        });
+        return pending;
+    }
+
+    private void applyDeltas(Map<Key, int[]> deltas) {
+        List<Object[]> upserts = sorted(deltas).stream()
+                .filter(entry -> !isZero(entry.getValue()))
+                .map(entry -> {
+                    Key key = entry.getKey();
+                    int[] d = entry.getValue();
+                    return new Object[]{key.userId(), key.day(), key.priority().name(), d[CREATED],
+                            d[STARTED], d[COMPLETED], d[COMPLETED_ON_TIME]};
+                })
+                .toList();
+        if (upserts.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_DELTA, upserts));
+        } catch (DataAccessException e) {
+            log.warn("Could not update {} user daily stats rows, left to the next reconciliation: {}",
+                    upserts.size(), e.getMessage());
+        }
+    }
+
+    private static void count(Map<Key, int[]> counts, TaskSnapshot task, int sign, LocalDate firstDay) {
+        if (task != null) {
+            count(counts, task.assignedToId(), priorityOf(task.priority()), task.status(), task.creationDate(),
+                    task.startedAt(), task.completedAt(), task.dueDate(), sign, firstDay, LocalDate.MAX);
+        }
+    }
+
+    private static void count(Map<Key, int[]> counts, Long userId, Priority priority, TaskStatus status,
+                              LocalDateTime creationDate, LocalDateTime startedAt, LocalDateTime completedAt,
+                              LocalDateTime dueDate, int sign, LocalDate from, LocalDate to) {
+        if (userId == null) {
+            return;
+        }
+        add(counts, userId, creationDate, priority, CREATED, sign, from, to);
+        add(counts, userId, startedAt, priority, STARTED, sign, from, to);
+        if (status == TaskStatus.DONE && completedAt != null) {
+            add(counts, userId, completedAt, priority, COMPLETED, sign, from, to);
+            if (dueDate != null && completedAt.isBefore(dueDate)) {
+                add(counts, userId, completedAt, priority, COMPLETED_ON_TIME, sign, from, to);
+            }
+        }
+    }
+
+    /**
+     * Count the task on every day between two dates that ended with it created, due and not completed
+     */
+    private static void countOverdue(Map<Key, int[]> counts, TaskRollupView task, LocalDate from, LocalDate to) {
+        if (task.getDueDate() == null || task.getCreationDate() == null
+                || (task.getStatus() == TaskStatus.DONE && task.getCompletedAt() == null)) {
+            return;
+        }
+        LocalDate first = max(from, max(task.getDueDate().toLocalDate(), task.getCreationDate().toLocalDate()));
+        LocalDate last = task.getCompletedAt() == null ? to
+                : min(to, task.getCompletedAt().toLocalDate().minusDays(1));
+        Priority priority = priorityOf(task.getPriority());
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            counts.computeIfAbsent(new Key(task.getUserId(), day, priority), k -> new int[5])[OVERDUE_AT_EOD]++;
+        }
+    }
+
+    private static void add(Map<Key, int[]> counts, Long userId, LocalDateTime at, Priority priority,
+                            int counter, int sign, LocalDate from, LocalDate to) {
+        if (at == null) {
+            return;
+        }
+        LocalDate day = at.toLocalDate();
+        if (!day.isBefore(from) && !day.isAfter(to)) {
+            counts.computeIfAbsent(new Key(userId, day, priority), k -> new int[5])[counter] += sign;
+        }
+    }
+
+    private static List<Map.Entry<Key, int[]>> sorted(Map<Key, int[]> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .toList();
+    }
+
+    private static boolean isZero(int[] counters) {
+        for (int counter : counters) {
+            if (counter != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Tasks without a priority are shown as MEDIUM
+    private static Priority priorityOf(Priority priority) {
+        return priority != null ? priority : Priority.MEDIUM;
+    }
+
+    private static LocalDate firstRetainedDay(LocalDate today) {
+        return today.minusDays(RETENTION_DAYS - 1);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,54 @@
+package org.task_manager.backend.util;
+
+import java.util.Locale;
+
+/**
+ * Content coding negotiation for responses the controllers compress themselves
+ */
+public class AcceptEncodingUtil {
+
+    private AcceptEncodingUtil() {
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip (RFC 9110 section 12.5.3): gzip or x-gzip
+     * listed with a non-zero weight, or not listed and covered by a non-zero "*".
+     * A weight that does not parse counts as 1, as most servers treat it.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double weight = weight(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? weight : Math.max(gzip, weight);
+            } else if (coding.equals("*")) {
+                wildcard = weight;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double weight(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,39 @@
+package org.task_manager.backend.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Utility class for writing RFC 4180 CSV
+ */
+public class CsvUtil {
+
+    /**
+     * Quote a value if it contains a separator, quote or line break
+     */
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        boolean needsQuotes = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Write one CSV record terminated by CRLF
+     */
+    public static void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,92 @@
+package org.task_manager.backend.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+import org.task_manager.backend.repository.projection.TaskVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity tags for task resources.
+ * A single task is tagged by its version, its assignee's last update and its representation (strong,
+ * since JSON, CBOR and Smile bodies differ byte for byte), a task list by a fingerprint of the matching
+ * tasks and their assignees (weak, since pages and formats of one set share it). Responses carrying
+ * either tag vary by Accept.
+ */
+public class ETagUtil {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    /** Formats a task is served in, in the order Spring MVC picks them for a wildcard Accept. */
+    private static final List<MediaType> TASK_REPRESENTATIONS =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private ETagUtil() {
+    }
+
+    public static String forTask(Long id, TaskVersion version, MediaType representation) {
+        return "\"task-" + id + "-" + version.version() + "-" + epochMillis(version.assigneeUpdatedAt())
+                + "-" + representation.getSubtype() + "\"";
+    }
+
+    public static String forTaskSet(TaskSetVersion setVersion) {
+        long versionSum = setVersion.versionSum() != null ? setVersion.versionSum() : 0;
+        return "W/\"tasks-" + setVersion.count() + "-" + versionSum + "-" + epochMillis(setVersion.lastUpdatedAt())
+                + "-" + epochMillis(setVersion.assigneesUpdatedAt()) + "\"";
+    }
+
+    /**
+     * The task representation content negotiation will select for an Accept header: the first
+     * acceptable type by quality and specificity that one of the task formats satisfies.
+     * Missing or malformed headers get JSON, as they do from the message converters.
+     */
+    public static MediaType taskRepresentation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            for (MediaType representation : TASK_REPRESENTATIONS) {
+                if (type.includes(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Check an If-Match header against the current version of a task and its assignee. A tag of any
+     * representation of that version matches, since they all describe the same state. Weak tags never
+     * match (RFC 9110 strong comparison).
+     */
+    public static boolean matchesIfMatch(String ifMatch, Long id, TaskVersion version) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            for (MediaType representation : TASK_REPRESENTATIONS) {
+                if (tag.equals(forTask(id, version, representation))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+}
@@ -0,0 +1,51 @@
+package org.task_manager.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque position for keyset pagination: the sort key and direction of the listing,
+ * plus the sort value and id of the row the page starts from.
+ * Encoded as URL-safe base64 so clients can pass it back unchanged.
+ *
+ * @param value    sort value of the row, or null when it had none (or the sort key is the id)
+ * @param backward true for a "previous page" cursor, which reads the rows before the position
+ */
+public record KeysetCursor(String sortKey, boolean ascending, LocalDateTime value, long id, boolean backward) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Direction to read rows in: the listing's direction, reversed for a backward cursor
+     */
+    public boolean readAscending() {
+        return backward != ascending;
+    }
+
+    public String encode() {
+        String raw = sortKey + "|" + (ascending ? "asc" : "desc") + "|" + (value != null ? value : "") + "|" + id
+                + "|" + (backward ? "prev" : "next");
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a cursor produced by {@link #encode()}
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime value = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+            return new KeysetCursor(parts[0], "asc".equals(parts[1]), value, Long.parseLong(parts[3]),
+                    "prev".equals(parts[4]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.task_manager.backend.util;
+
+import org.task_manager.backend.dto.CursorPageDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class for turning keyset query results into cursor pages
+ */
+public class KeysetPageUtil {
+
+    /**
+     * Build a page from rows read after {@code after} in {@link KeysetCursor#readAscending()} order.
+     * The query should fetch {@code pageSize + 1} rows; the extra row only signals that more exist,
+     * so no COUNT query is needed.
+     *
+     * @param after     cursor the rows were read from, or null for the first page
+     * @param sortValue sort key value of a row (ignored when sorting by id)
+     */
+    public static <T, R> CursorPageDto<R> toPage(List<T> rows, int pageSize, KeysetCursor after,
+                                                 String sortKey, boolean ascending,
+                                                 Function<T, LocalDateTime> sortValue, Function<T, Long> id,
+                                                 Function<T, R> mapper) {
+        boolean backward = after != null && after.backward();
+        boolean moreInReadDirection = rows.size() > pageSize;
+        List<T> items = new ArrayList<>(moreInReadDirection ? rows.subList(0, pageSize) : rows);
+        if (backward) {
+            Collections.reverse(items);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!items.isEmpty()) {
+            T first = items.get(0);
+            T last = items.get(items.size() - 1);
+            // A backward page was reached from a later page, so rows always follow it
+            if (backward || moreInReadDirection) {
+                nextCursor = new KeysetCursor(sortKey, ascending, sortValue.apply(last), id.apply(last), false).encode();
+            }
+            // A forward page that started from a cursor always has rows before it
+            if (backward ? moreInReadDirection : after != null) {
+                prevCursor = new KeysetCursor(sortKey, ascending, sortValue.apply(first), id.apply(first), true).encode();
+            }
+        }
+
+        return new CursorPageDto<>(items.stream().map(mapper).toList(), nextCursor, prevCursor,
+                nextCursor != null, null);
+    }
+}
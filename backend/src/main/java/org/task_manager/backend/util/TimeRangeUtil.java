@@ -1,5 +1,6 @@
 package org.task_manager.backend.util;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 
 /**
@@ -39,6 +40,10 @@ public class TimeRangeUtil {
         return dateTime.withHour(23).withMinute(59).withSecond(59).withNano(999999999);
     }
 
+    public static LocalDateTime getStartOfWeek(LocalDateTime dateTime) {
+        return getStartOfDay(dateTime.with(DayOfWeek.MONDAY));
+    }
+
     public static boolean isInDateRange(LocalDateTime date, LocalDateTime fromDate, LocalDateTime toDate) {
         return !date.isBefore(fromDate) && !date.isAfter(toDate);
     }
@@ -0,0 +1,129 @@
+-- Schema as previously generated by Hibernate (see database/taskmanager_db.sql).
+-- Databases that already have these tables are baselined at this version instead of running it.
+
+CREATE TABLE `roles` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `name` enum('ADMIN','USER') NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `UKofx66keruapi6vyqpv6f2or37` (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `users` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `created_at` datetime(6) DEFAULT NULL,
+  `email` varchar(100) NOT NULL,
+  `password` varchar(100) NOT NULL,
+  `updated_at` datetime(6) DEFAULT NULL,
+  `username` varchar(50) NOT NULL,
+  `role_id` bigint NOT NULL,
+  `department` varchar(100) DEFAULT NULL,
+  `designation` varchar(100) DEFAULT NULL,
+  `phone` varchar(20) DEFAULT NULL,
+  `last_login_at` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `UKr43af9ap4edm43mmtq01oddj6` (`username`),
+  UNIQUE KEY `UK6dotkott2kjsp8vw4d0m25fb7` (`email`),
+  KEY `FKp56c1712k691lhsyewcssf40f` (`role_id`),
+  CONSTRAINT `FKp56c1712k691lhsyewcssf40f` FOREIGN KEY (`role_id`) REFERENCES `roles` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `tasks` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `description` varchar(255) DEFAULT NULL,
+  `due_date` datetime(6) DEFAULT NULL,
+  `priority` enum('HIGH','LOW','MEDIUM') DEFAULT NULL,
+  `status` enum('TODO','IN_PROGRESS','DONE') DEFAULT 'TODO',
+  `title` varchar(255) NOT NULL,
+  `user_id` bigint DEFAULT NULL,
+  `created_at` datetime(6) DEFAULT NULL,
+  `updated_at` datetime(6) DEFAULT NULL,
+  `creation_date` datetime(6) DEFAULT NULL,
+  `completed_at` datetime(6) DEFAULT NULL,
+  `started_at` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FK6s1ob9k4ihi75xbxe2w0ylsdh` (`user_id`),
+  CONSTRAINT `FK6s1ob9k4ihi75xbxe2w0ylsdh` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `activity_logs` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `action` varchar(255) NOT NULL,
+  `description` varchar(1000) DEFAULT NULL,
+  `details` text,
+  `entity_id` bigint DEFAULT NULL,
+  `entity_name` varchar(500) DEFAULT NULL,
+  `entity_type` varchar(255) NOT NULL,
+  `error_message` varchar(500) DEFAULT NULL,
+  `ip_address` varchar(50) DEFAULT NULL,
+  `status` varchar(255) NOT NULL,
+  `timestamp` datetime(6) NOT NULL,
+  `user_agent` varchar(500) DEFAULT NULL,
+  `user_id` bigint DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FK5bm1lt4f4eevt8lv2517soakd` (`user_id`),
+  CONSTRAINT `FK5bm1lt4f4eevt8lv2517soakd` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `password_reset_tokens` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `created_at` datetime(6) DEFAULT NULL,
+  `expiry_date` datetime(6) NOT NULL,
+  `token` varchar(255) NOT NULL,
+  `used` bit(1) NOT NULL,
+  `user_id` bigint NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `UK71lqwbwtklmljk3qlsugr1mig` (`token`),
+  KEY `FKk3ndxg5xp6v7wd4gjyusp15gq` (`user_id`),
+  CONSTRAINT `FKk3ndxg5xp6v7wd4gjyusp15gq` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `reports` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `content` longtext,
+  `description` varchar(500) DEFAULT NULL,
+  `error_message` varchar(500) DEFAULT NULL,
+  `expires_at` datetime(6) DEFAULT NULL,
+  `file_path` varchar(1000) DEFAULT NULL,
+  `file_size` bigint DEFAULT NULL,
+  `filters` text,
+  `format` varchar(255) NOT NULL,
+  `from_date` datetime(6) DEFAULT NULL,
+  `generated_at` datetime(6) NOT NULL,
+  `include_charts` bit(1) DEFAULT NULL,
+  `report_name` varchar(255) NOT NULL,
+  `report_type` varchar(255) NOT NULL,
+  `status` varchar(255) NOT NULL,
+  `to_date` datetime(6) DEFAULT NULL,
+  `total_records` int DEFAULT NULL,
+  `generated_by_user_id` bigint DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FK44jim15l42oy4gl80pmns1mw4` (`generated_by_user_id`),
+  CONSTRAINT `FK44jim15l42oy4gl80pmns1mw4` FOREIGN KEY (`generated_by_user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `user_settings` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `bio` varchar(500) DEFAULT NULL,
+  `created_at` datetime(6) NOT NULL,
+  `email_notifications` bit(1) NOT NULL,
+  `items_per_page` int NOT NULL,
+  `language` varchar(10) DEFAULT NULL,
+  `phone_number` varchar(100) DEFAULT NULL,
+  `profile_picture_url` varchar(500) DEFAULT NULL,
+  `profile_public` bit(1) NOT NULL,
+  `show_activity_status` bit(1) NOT NULL,
+  `show_completed_tasks` bit(1) NOT NULL,
+  `system_alerts` bit(1) NOT NULL,
+  `task_comments` bit(1) NOT NULL,
+  `task_reminders` bit(1) NOT NULL,
+  `theme` varchar(50) DEFAULT NULL,
+  `time_zone` varchar(50) DEFAULT NULL,
+  `two_factor_enabled` bit(1) NOT NULL,
+  `two_factor_method` varchar(100) DEFAULT NULL,
+  `updated_at` datetime(6) NOT NULL,
+  `weekly_reports` bit(1) NOT NULL,
+  `user_id` bigint NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `UK4bos7satl9xeqd18frfeqg6tt` (`user_id`),
+  CONSTRAINT `FK8v82nj88rmai0nyck19f873dw` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,80 @@
+-- Indexes matched to the repository finders, Specifications and keyset browsers.
+-- InnoDB appends the primary key to every secondary index, so an index on (col) also
+-- serves "ORDER BY col, id" keyset scans.
+
+-- tasks
+
+-- findByAssignedToIdAndStatus, countByAssignedToIdAndStatus, count*TasksByUserId,
+-- findOverdueTasksByUserId, user task list filtered by status
+CREATE INDEX idx_tasks_user_status_due ON tasks (user_id, status, due_date);
+
+-- findByAssignedToIdOrderByDueDateAsc, findByAssignedToIdAndDueDateBetween
+CREATE INDEX idx_tasks_user_due ON tasks (user_id, due_date);
+
+-- analytics: findByAssignedToIdAnd[Status|Priority]AndCreationDateBetween
+CREATE INDEX idx_tasks_user_creation ON tasks (user_id, creation_date);
+
+-- findOverdueTasks, findByDueDateBetween, countOpenTasksByDueDateFrom (covering),
+-- admin browser sorted by due date
+CREATE INDEX idx_tasks_due_status ON tasks (due_date, status);
+
+-- countByStatusAndPriority reads only this index when rebuilding dashboard counters;
+-- also countByStatus and findByStatus
+CREATE INDEX idx_tasks_status_priority_cover ON tasks (status, priority, due_date, creation_date);
+
+-- findByPriorityOrderByDueDateAsc, countByPriority
+CREATE INDEX idx_tasks_priority_due ON tasks (priority, due_date);
+
+-- admin browser and task scroll sorted by creation date, export date range
+CREATE INDEX idx_tasks_creation ON tasks (creation_date);
+
+-- admin browser sorted by last update; with the two below, lets findActivitySince
+-- use an index merge instead of scanning
+CREATE INDEX idx_tasks_updated ON tasks (updated_at);
+CREATE INDEX idx_tasks_started ON tasks (started_at);
+CREATE INDEX idx_tasks_completed ON tasks (completed_at);
+
+-- users
+
+-- admin browser and analytics filtered by department
+CREATE INDEX idx_users_department ON users (department);
+
+-- activity_logs
+
+-- findRecentActivityLogs, findAllOrderByTimestampDesc, findByTimestampBetween,
+-- deleteByTimestampBefore
+CREATE INDEX idx_activity_logs_timestamp ON activity_logs (timestamp);
+
+-- findByUser, findByUserAndTimestampBetween, findByUserIdOrderByTimestampDesc, countByUser
+CREATE INDEX idx_activity_logs_user_timestamp ON activity_logs (user_id, timestamp);
+
+-- findLoginHistoryByUserId, findByActionAndUser
+CREATE INDEX idx_activity_logs_user_action_timestamp ON activity_logs (user_id, action, timestamp);
+
+-- findByAction, countByAction, findByActionAndEntityType
+CREATE INDEX idx_activity_logs_action_entity ON activity_logs (action, entity_type);
+
+-- findByEntityType, countByEntityType
+CREATE INDEX idx_activity_logs_entity_type ON activity_logs (entity_type);
+
+-- findFailedActivities, findActivitiesWithErrors
+CREATE INDEX idx_activity_logs_status_timestamp ON activity_logs (status, timestamp);
+
+-- reports
+
+-- findByStatus, countByStatus, findPendingReports, findCompletedReportsOrderByGeneratedAtDesc,
+-- findFailedReports
+CREATE INDEX idx_reports_status_generated ON reports (status, generated_at);
+
+-- findAllOrderByGeneratedAtDesc, findRecentReports, findByGeneratedAtBetween
+CREATE INDEX idx_reports_generated ON reports (generated_at);
+
+-- findMostRecentReportByType, findByReportType, countByReportType
+CREATE INDEX idx_reports_type_generated ON reports (report_type, generated_at);
+
+-- findByGeneratedBy, findByGeneratedByAndGeneratedAtBetween, findActiveReportsByUserId,
+-- countByGeneratedBy
+CREATE INDEX idx_reports_user_generated ON reports (generated_by_user_id, generated_at);
+
+-- findReportsExpiringBefore, deleteByExpiresAtBefore
+CREATE INDEX idx_reports_expires ON reports (expires_at);
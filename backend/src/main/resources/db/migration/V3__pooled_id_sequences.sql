@@ -0,0 +1,32 @@
+-- Table-backed sequences for Task, User, ActivityLog and Report ids.
+-- MySQL has no native sequences, so Hibernate keeps next_val in a one-row table and reserves
+-- a block of ids per round trip (pooled-lo, allocationSize 50). Knowing ids before the INSERT
+-- lets Hibernate send inserts as JDBC batches, which IDENTITY columns prevent.
+-- Each sequence starts after the highest existing id.
+
+CREATE TABLE task_seq (next_val bigint) ENGINE=InnoDB;
+INSERT INTO task_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM tasks;
+
+CREATE TABLE user_seq (next_val bigint) ENGINE=InnoDB;
+INSERT INTO user_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+
+CREATE TABLE activity_log_seq (next_val bigint) ENGINE=InnoDB;
+INSERT INTO activity_log_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM activity_logs;
+
+CREATE TABLE report_seq (next_val bigint) ENGINE=InnoDB;
+INSERT INTO report_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM reports;
+
+-- The ids now come only from these tables. A leftover AUTO_INCREMENT counter would lag behind them,
+-- so a manual insert without an id could take a value Hibernate has already reserved and fail later
+-- with a duplicate key; without it such an insert fails immediately instead.
+-- users.id is referenced by foreign keys, which MySQL only lets us modify with checks off (error 1833).
+-- The column type does not change, so the existing references stay valid.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE tasks MODIFY id bigint NOT NULL;
+ALTER TABLE users MODIFY id bigint NOT NULL;
+ALTER TABLE activity_logs MODIFY id bigint NOT NULL;
+ALTER TABLE reports MODIFY id bigint NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,3 @@
+-- Optimistic locking version for tasks, also the source of task ETags.
+-- Bulk JPQL updates of tasks increment it themselves.
+ALTER TABLE tasks ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- User analytics: completed tasks of one user finished inside the range
+-- (findListRowsByAssignedToIdAndStatusAndCompletedAtBetween) read a range of this index
+-- instead of every task of the user
+CREATE INDEX idx_tasks_user_status_completed ON tasks (user_id, status, completed_at);
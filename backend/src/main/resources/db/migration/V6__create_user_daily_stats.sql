@@ -0,0 +1,18 @@
+-- Task counts per user, day and priority behind the analytics activity and performance trend charts.
+-- Maintained from task changes and reconciled nightly (UserDailyStatsRollup); overdue_at_eod only by the reconciliation.
+CREATE TABLE `user_daily_stats` (
+  `user_id` bigint NOT NULL,
+  `stat_date` date NOT NULL,
+  `priority` enum('HIGH','LOW','MEDIUM') NOT NULL,
+  `created` int NOT NULL DEFAULT 0,
+  `started` int NOT NULL DEFAULT 0,
+  `completed` int NOT NULL DEFAULT 0,
+  `completed_on_time` int NOT NULL DEFAULT 0,
+  `overdue_at_eod` int NOT NULL DEFAULT 0,
+  PRIMARY KEY (`user_id`, `stat_date`, `priority`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- started_at and completed_at were never set before; the charts used the creation time of tasks
+-- in progress and the last update of completed ones in their place
+UPDATE tasks SET completed_at = updated_at WHERE status = 'DONE' AND completed_at IS NULL;
+UPDATE tasks SET started_at = creation_date WHERE status = 'IN_PROGRESS' AND started_at IS NULL;
@@ -0,0 +1,80 @@
+package org.task_manager.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task_manager.backend.dto.CreateUserDto;
+import org.task_manager.backend.dto.LoginRequest;
+import org.task_manager.backend.dto.TaskRequest;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.service.AdminService;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Users, task requests and logins shared by the integration tests
+ */
+public final class TestFixtures {
+
+    public static final String PASSWORD = "secret123";
+
+    private TestFixtures() {
+    }
+
+    /**
+     * Create a user with the USER role, {@link #PASSWORD} and a matching email, and return its id
+     */
+    public static Long createUser(AdminService adminService, UserRepository userRepository, String username) {
+        CreateUserDto user = new CreateUserDto();
+        user.setName(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword(PASSWORD);
+        user.setRole("user");
+        adminService.createUser(user);
+        return userRepository.findByUsername(username).orElseThrow().getId();
+    }
+
+    /**
+     * A low priority task to do, due tomorrow
+     */
+    public static TaskRequest task(String title, Long assignedToId) {
+        return task(title, "TODO", "LOW", LocalDateTime.now().plusDays(1).withNano(0), assignedToId);
+    }
+
+    public static TaskRequest task(String title, String status, String priority, LocalDateTime dueDate,
+                                   Long assignedToId) {
+        TaskRequest task = new TaskRequest();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setAssignedToId(assignedToId);
+        return task;
+    }
+
+    /**
+     * Log in as the administrator seeded by DataInitializer
+     */
+    public static String logInAsAdmin(MockMvc mockMvc, ObjectMapper objectMapper) throws Exception {
+        return logIn(mockMvc, objectMapper, "admin", "admin123");
+    }
+
+    /**
+     * Log in through the API and return the bearer token
+     */
+    public static String logIn(MockMvc mockMvc, ObjectMapper objectMapper, String username, String password)
+            throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(password);
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(login).path("data").path("token").asText();
+    }
+}
@@ -0,0 +1,134 @@
+package org.task_manager.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.task_manager.backend.dto.TaskResponse;
+import org.task_manager.backend.util.NdjsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of a task list page in each response format, using the mappers
+ * {@link JacksonConfig} registers. The encode benchmark also reports the bytes and tasks it encoded
+ * as auxiliary counters; their ratio is the encoded size per task.
+ * <p>
+ * Run from the backend directory:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskListFormatBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "ndjson"})
+    private String format;
+
+    @Param({"500"})
+    private int tasks;
+
+    private ObjectMapper mapper;
+    private List<TaskResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JacksonConfig config = new JacksonConfig();
+        mapper = switch (format) {
+            case "cbor" -> config.cborHttpMessageConverter().getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter().getObjectMapper();
+            default -> config.objectMapper();
+        };
+        page = taskPage(tasks);
+        encoded = write();
+    }
+
+    /**
+     * Payload counters of the encode benchmark, summed over an iteration
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long encodedBytes;
+        public long encodedTasks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+            encodedTasks = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws IOException {
+        byte[] bytes = write();
+        payload.encodedBytes += bytes.length;
+        payload.encodedTasks += page.size();
+        return bytes;
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        if (!format.equals("ndjson")) {
+            return mapper.readValue(encoded, TaskResponse[].class);
+        }
+        return mapper.readValues(mapper.createParser(encoded), TaskResponse.class).readAll();
+    }
+
+    private byte[] write() throws IOException {
+        if (!format.equals("ndjson")) {
+            return mapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonWriter ndjson = new NdjsonWriter(mapper, out)) {
+            for (TaskResponse task : page) {
+                ndjson.write(task);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<TaskResponse> taskPage(int size) {
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<TaskResponse> page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskResponse task = new TaskResponse();
+            task.setId((long) i + 1);
+            task.setTitle("Task " + (i + 1));
+            task.setDescription("Description of task " + (i + 1) + ", with a sentence or two of detail");
+            task.setStatus(statuses[i % statuses.length]);
+            task.setPriority(priorities[i % priorities.length]);
+            task.setCreationDate(start.plusHours(i));
+            task.setDueDate(start.plusDays(7).plusHours(i));
+            task.setAssignedToId((long) (i % 20) + 1);
+            task.setAssignedToUsername("user" + (i % 20 + 1));
+            task.setVersion((long) i % 5);
+            page.add(task);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,140 @@
+package org.task_manager.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.service.AdminService;
+import org.task_manager.backend.service.TaskService;
+import org.task_manager.backend.stats.UserAnalyticsCache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.task_manager.backend.TestFixtures.createUser;
+import static org.task_manager.backend.TestFixtures.logInAsAdmin;
+import static org.task_manager.backend.TestFixtures.task;
+
+/**
+ * Statements each endpoint prepares, so a lazy association touched outside its fetch plan
+ * shows up as a failing count instead of one extra query per row
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserAnalyticsCache userAnalyticsCache;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long taskId;
+    private String token;
+
+    @BeforeAll
+    void createUsersAndTasks() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Long userId = createUser(adminService, userRepository, "counted" + i);
+            userIds.add(userId);
+            for (int j = 0; j < 4; j++) {
+                taskId = taskService.createTask(task("Counted task " + i + "-" + j, j % 2 == 0 ? "TODO" : "DONE",
+                        "MEDIUM", LocalDateTime.now().plusDays(j), userId)).getId();
+            }
+        }
+        token = logInAsAdmin(mockMvc, objectMapper);
+    }
+
+    // Every authenticated request starts with the JWT filter's user and role lookup: one statement
+
+    @Test
+    void currentUserTakesOnlyTheAuthLookup() throws Exception {
+        assertEquals(1, statements(get("/api/auth/me")));
+    }
+
+    @Test
+    void userListTakesOneQueryWhateverTheNumberOfUsers() throws Exception {
+        // Auth, then users joined with their role
+        assertEquals(2, statements(get("/api/users")));
+
+        createUser(adminService, userRepository, "countedlate");
+        assertEquals(2, statements(get("/api/users")));
+    }
+
+    @Test
+    void adminUserListTakesOneCountQuery() throws Exception {
+        // Auth, task counts grouped by assignee, users with their role
+        assertEquals(3, statements(get("/api/admin/users")));
+    }
+
+    @Test
+    void settingsLoadUserAndRoleWithTheSettings() throws Exception {
+        // The first read creates the settings row
+        statements(get("/api/user/settings"));
+        statements(get("/api/admin/settings"));
+
+        // Auth, settings joined with user and role
+        assertEquals(2, statements(get("/api/user/settings")));
+        assertEquals(2, statements(get("/api/admin/settings")));
+    }
+
+    @Test
+    void taskListAndDetailReadProjections() throws Exception {
+        // Auth, task set version for the ETag, page of list rows, total count
+        assertEquals(4, statements(get("/api/tasks").param("sortBy", "title")));
+        // Auth, version for the ETag, list row joined with the assignee
+        assertEquals(3, statements(get("/api/tasks/" + taskId)));
+        // Auth, one keyset page of admin rows
+        assertEquals(2, statements(get("/api/admin/tasks")));
+    }
+
+    @Test
+    void userAnalyticsTakeABoundedNumberOfQueries() throws Exception {
+        // Auth, user, settings for the time zone, open tasks, tasks completed in the range,
+        // daily stats and monthly completions
+        assertEquals(7, statements(get("/api/users/" + userIds.get(0) + "/analytics")));
+    }
+
+    /**
+     * Statements one request prepares with every cache cold, so the count reflects the fetch plan
+     */
+    private long statements(MockHttpServletRequestBuilder request) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        userAnalyticsCache.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request.header("Authorization", "Bearer " + token)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
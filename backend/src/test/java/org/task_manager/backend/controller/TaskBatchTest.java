@@ -0,0 +1,129 @@
+package org.task_manager.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task_manager.backend.dto.TaskBatchItemResult;
+import org.task_manager.backend.dto.TaskBatchOperation;
+import org.task_manager.backend.dto.TaskBatchRequest;
+import org.task_manager.backend.dto.TaskBatchResponse;
+import org.task_manager.backend.model.Task;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.service.AdminService;
+import org.task_manager.backend.service.TaskBatchService;
+import org.task_manager.backend.service.TaskService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.task_manager.backend.TestFixtures.createUser;
+import static org.task_manager.backend.TestFixtures.logInAsAdmin;
+import static org.task_manager.backend.TestFixtures.task;
+
+/**
+ * Per-operation results of task batches: invalid operations fail alone, a chunk the database
+ * rejects fails as a whole and leaves the other chunks applied
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskBatchTest {
+
+    // One more than TaskBatchService.CHUNK_SIZE, so the batch runs as two chunks
+    private static final int TWO_CHUNKS = 501;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String token;
+
+    @BeforeAll
+    void logIn() throws Exception {
+        token = logInAsAdmin(mockMvc, objectMapper);
+    }
+
+    @Test
+    void invalidOperationsFailAlone() throws Exception {
+        Long userId = createUser(adminService, userRepository, "batched");
+        Long existing = taskService.createTask(task("Batch task to delete", userId)).getId();
+
+        List<TaskBatchOperation> operations = List.of(
+                new TaskBatchOperation("CREATE", null, task("Batch task created", userId)),
+                new TaskBatchOperation("CREATE", null, task("Batch task for nobody", Long.MAX_VALUE)),
+                new TaskBatchOperation("UPDATE", null, task("Batch task without id", userId)),
+                new TaskBatchOperation("MOVE", existing, null),
+                new TaskBatchOperation("CREATE", null, task("Bad", userId)),
+                new TaskBatchOperation("DELETE", existing, null),
+                new TaskBatchOperation("UPDATE", existing, task("Batch task already deleted", userId)));
+
+        String response = mockMvc.perform(post("/api/tasks/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBatchRequest(operations))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode body = objectMapper.readTree(response);
+
+        assertEquals(2, body.path("succeeded").asInt());
+        assertEquals(5, body.path("failed").asInt());
+        List<String> statuses = new ArrayList<>();
+        body.path("results").forEach(result -> statuses.add(result.path("status").asText()));
+        assertEquals(List.of("OK", "FAILED", "FAILED", "FAILED", "FAILED", "OK", "FAILED"), statuses);
+        assertEquals("id is required for UPDATE", body.path("results").path(2).path("error").asText());
+        assertEquals(List.of("Batch task created"), taskRepository.findByAssignedToId(userId).stream()
+                .map(Task::getTitle).toList());
+    }
+
+    @Test
+    void aRejectedChunkRollsBackAloneWithEveryOperation() {
+        Long userId = createUser(adminService, userRepository, "chunked");
+        List<TaskBatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < TWO_CHUNKS; i++) {
+            operations.add(new TaskBatchOperation("CREATE", null, task("Chunked task " + i, userId)));
+        }
+        // Valid for the request, too long for the description column: the first chunk's flush fails
+        operations.get(10).getTask().setDescription("x".repeat(300));
+
+        TaskBatchResponse response = taskBatchService.apply(operations);
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(TWO_CHUNKS - 1, response.getFailed());
+        for (TaskBatchItemResult result : response.getResults().subList(0, TWO_CHUNKS - 1)) {
+            assertEquals("FAILED", result.getStatus());
+            assertTrue(result.getError().startsWith("Rolled back with its chunk"));
+        }
+        assertEquals("OK", response.getResults().get(TWO_CHUNKS - 1).getStatus());
+        assertEquals(1, taskRepository.countByAssignedToId(userId));
+    }
+}
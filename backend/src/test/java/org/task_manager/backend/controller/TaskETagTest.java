@@ -0,0 +1,177 @@
+package org.task_manager.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task_manager.backend.TestFixtures;
+import org.task_manager.backend.dto.UserUpdateDto;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.service.AdminService;
+import org.task_manager.backend.service.TaskService;
+import org.task_manager.backend.service.UserService;
+import org.task_manager.backend.util.ETagUtil;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.task_manager.backend.TestFixtures.createUser;
+import static org.task_manager.backend.TestFixtures.logIn;
+import static org.task_manager.backend.TestFixtures.logInAsAdmin;
+import static org.task_manager.backend.TestFixtures.task;
+
+/**
+ * Conditional task requests across the JSON, CBOR and Smile representations, and conditional task lists
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long adminId;
+    private Long taskId;
+    private String token;
+
+    @BeforeAll
+    void createTaskAndLogIn() throws Exception {
+        adminId = userRepository.findByUsername("admin").orElseThrow().getId();
+        taskId = taskService.createTask(task("Tagged task", adminId)).getId();
+        token = logInAsAdmin(mockMvc, objectMapper);
+    }
+
+    @Test
+    void eachRepresentationGetsItsOwnTagAndVariesByAccept() throws Exception {
+        MockHttpServletResponse json = getTask(MediaType.APPLICATION_JSON_VALUE, null);
+        MockHttpServletResponse cbor = getTask(MediaType.APPLICATION_CBOR_VALUE, null);
+        MockHttpServletResponse smile = getTask(ETagUtil.APPLICATION_SMILE.toString(), null);
+
+        assertEquals(200, cbor.getStatus());
+        assertTrue(cbor.getContentType().startsWith(MediaType.APPLICATION_CBOR_VALUE));
+        assertTrue(smile.getContentType().startsWith(ETagUtil.APPLICATION_SMILE.toString()));
+        assertNotEquals(json.getHeader(HttpHeaders.ETAG), cbor.getHeader(HttpHeaders.ETAG));
+        assertNotEquals(cbor.getHeader(HttpHeaders.ETAG), smile.getHeader(HttpHeaders.ETAG));
+        assertTrue(json.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+        assertTrue(cbor.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void wildcardAcceptIsTaggedAsJson() throws Exception {
+        MockHttpServletResponse wildcard = getTask("*/*", null);
+        MockHttpServletResponse json = getTask(MediaType.APPLICATION_JSON_VALUE, null);
+
+        assertTrue(wildcard.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+        assertEquals(json.getHeader(HttpHeaders.ETAG), wildcard.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void notModifiedOnlyForTheTagOfTheRequestedRepresentation() throws Exception {
+        String jsonTag = getTask(MediaType.APPLICATION_JSON_VALUE, null).getHeader(HttpHeaders.ETAG);
+        String cborTag = getTask(MediaType.APPLICATION_CBOR_VALUE, null).getHeader(HttpHeaders.ETAG);
+
+        assertEquals(304, getTask(MediaType.APPLICATION_CBOR_VALUE, cborTag).getStatus());
+        assertEquals(200, getTask(MediaType.APPLICATION_CBOR_VALUE, jsonTag).getStatus());
+    }
+
+    @Test
+    void ifMatchAcceptsTheTagOfAnyRepresentationOfTheCurrentVersion() throws Exception {
+        String cborTag = getTask(MediaType.APPLICATION_CBOR_VALUE, null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse updated = mockMvc.perform(put("/api/tasks/" + taskId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_MATCH, cborTag)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskBody("Tagged task, renamed")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertEquals(getTask(MediaType.APPLICATION_JSON_VALUE, null).getHeader(HttpHeaders.ETAG),
+                updated.getHeader(HttpHeaders.ETAG));
+
+        // The CBOR tag now names the previous version
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_MATCH, cborTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(taskBody("Lost update")))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void listTagChangesWhenTheAssigneeIsRenamed() throws Exception {
+        Long userId = createUser(adminService, userRepository, "tagged");
+        taskService.createTask(task("Task of a renamed user", userId));
+        String userToken = logIn(mockMvc, objectMapper, "tagged", TestFixtures.PASSWORD);
+
+        // By due date from the user task index, by title from the database
+        String indexedTag = listTasks(userToken, "dueDate", null).getHeader(HttpHeaders.ETAG);
+        String queriedTag = listTasks(userToken, "title", null).getHeader(HttpHeaders.ETAG);
+        assertEquals(304, listTasks(userToken, "dueDate", indexedTag).getStatus());
+        assertEquals(304, listTasks(userToken, "title", queriedTag).getStatus());
+
+        UserUpdateDto rename = new UserUpdateDto();
+        rename.setUsername("tagged-renamed");
+        userService.updateUser(userId, rename);
+        userToken = logIn(mockMvc, objectMapper, "tagged-renamed", TestFixtures.PASSWORD);
+
+        MockHttpServletResponse indexed = listTasks(userToken, "dueDate", indexedTag);
+        MockHttpServletResponse queried = listTasks(userToken, "title", queriedTag);
+        assertEquals(200, indexed.getStatus());
+        assertEquals(200, queried.getStatus());
+        assertEquals("tagged-renamed", objectMapper.readTree(indexed.getContentAsString())
+                .path("content").path(0).path("assignedToUsername").asText());
+    }
+
+    private MockHttpServletResponse listTasks(String bearer, String sortBy, String ifNoneMatch) throws Exception {
+        var request = get("/api/tasks")
+                .param("sortBy", sortBy)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearer);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse getTask(String accept, String ifNoneMatch) throws Exception {
+        var request = get("/api/tasks/" + taskId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.ACCEPT, accept);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private String taskBody(String title) throws Exception {
+        return objectMapper.writeValueAsString(task(title, "TODO", "LOW", LocalDateTime.now().plusDays(2).withNano(0), adminId));
+    }
+}
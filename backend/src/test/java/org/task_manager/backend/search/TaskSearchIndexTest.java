@@ -0,0 +1,73 @@
+package org.task_manager.backend.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.task_manager.backend.event.TasksReassignedEvent;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.TaskRepository;
+import org.task_manager.backend.repository.projection.TaskSearchRow;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+    private static final long FROM_USER = 1L;
+    private static final long TO_USER = 2L;
+
+    @Test
+    void keepsAReassignmentCommittedWhileRebuilding() {
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskSearchIndex index = new TaskSearchIndex(taskRepository);
+        // The rows are read before the reassignment commits, so they still carry the old assignee
+        when(taskRepository.findSearchRowsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            index.onTasksReassigned(new TasksReassignedEvent(FROM_USER, TO_USER, 1));
+            return List.of(row(10L, "Quarterly report", FROM_USER));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(10L), index.search("report", new TaskSearchFilter(TO_USER, null, null), 10));
+        assertEquals(List.of(), index.search("report", new TaskSearchFilter(FROM_USER, null, null), 10));
+    }
+
+    private static TaskSearchRow row(Long id, String title, Long assignedToId) {
+        return new TaskSearchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getDescription() {
+                return null;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return TaskStatus.TODO;
+            }
+
+            @Override
+            public Priority getPriority() {
+                return Priority.LOW;
+            }
+
+            @Override
+            public Long getAssignedToId() {
+                return assignedToId;
+            }
+        };
+    }
+}
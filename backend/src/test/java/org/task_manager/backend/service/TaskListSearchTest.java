@@ -0,0 +1,82 @@
+package org.task_manager.backend.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.task_manager.backend.dto.TaskRequest;
+import org.task_manager.backend.dto.TaskResponse;
+import org.task_manager.backend.repository.UserRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.task_manager.backend.TestFixtures.createUser;
+import static org.task_manager.backend.TestFixtures.task;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskListSearchTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeAll
+    void createTasks() {
+        userId = createUser(adminService, userRepository, "searcher");
+
+        createTask("Quarterly report draft", null);
+        createTask("Export the report files", null);
+        createTask("Import project plans", null);
+        createTask("Plan the offsite", "Book a venue near the harbour");
+        createTask("Fix login bug", "Users cannot sign in");
+    }
+
+    @Test
+    void matchesSubstringsOfTitles() {
+        assertEquals(List.of("Export the report files", "Import project plans", "Quarterly report draft"),
+                titles(search("port")));
+    }
+
+    @Test
+    void matchesSubstringsOfDescriptionsIgnoringCase() {
+        assertEquals(List.of("Plan the offsite"), titles(search("HARBO")));
+    }
+
+    @Test
+    void matchesTheKeywordAsOnePhrase() {
+        assertEquals(List.of("Export the report files"), titles(search("the report")));
+        assertEquals(List.of(), titles(search("report the")));
+    }
+
+    @Test
+    void countsEveryMatchAcrossPages() {
+        Page<TaskResponse> firstPage = taskService.getAllTasks(userId, "p", null, null, null, 0, 2, "title", "asc");
+        assertEquals(4, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+    }
+
+    private Page<TaskResponse> search(String search) {
+        return taskService.getAllTasks(userId, search, null, null, null, 0, 20, "title", "asc");
+    }
+
+    private static List<String> titles(Page<TaskResponse> page) {
+        return page.getContent().stream().map(TaskResponse::getTitle).toList();
+    }
+
+    private void createTask(String title, String description) {
+        TaskRequest task = task(title, userId);
+        task.setDescription(description);
+        taskService.createTask(task);
+    }
+}
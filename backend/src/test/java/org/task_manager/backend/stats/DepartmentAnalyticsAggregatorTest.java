@@ -0,0 +1,93 @@
+package org.task_manager.backend.stats;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.task_manager.backend.dto.DepartmentAnalyticsDto;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.DepartmentTaskRow;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DepartmentAnalyticsAggregatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 18, 12, 0);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterAll
+    void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void forkJoinFoldMatchesTheSerialFold() {
+        List<DepartmentAnalyticsAggregator.Member> members = DepartmentAnalyticsSamples.sampleMembers(5_000, 20, NOW);
+
+        List<DepartmentAnalyticsDto> serial =
+                DepartmentAnalyticsAggregator.toDtos(DepartmentAnalyticsAggregator.aggregate(members, NOW), 4);
+        DepartmentAnalyticsAggregator.Result forkJoin = DepartmentAnalyticsAggregator.aggregate(pool, members, NOW);
+
+        assertTrue(forkJoin.partitions() > 1);
+        assertEquals(serial, DepartmentAnalyticsAggregator.toDtos(forkJoin.departments(), 4));
+    }
+
+    @Test
+    void heavyUserIsFoldedOnItsOwn() {
+        List<DepartmentTaskRow> heavyLoad = Collections.nCopies(
+                DepartmentAnalyticsAggregator.PARTITION_WORK * 2, task(TaskStatus.TODO, null, null));
+        List<DepartmentAnalyticsAggregator.Member> members = List.of(
+                new DepartmentAnalyticsAggregator.Member("Sales", List.of(task(TaskStatus.TODO, null, null))),
+                new DepartmentAnalyticsAggregator.Member("Sales", heavyLoad),
+                new DepartmentAnalyticsAggregator.Member("Sales", List.of(task(TaskStatus.TODO, null, null))));
+
+        DepartmentAnalyticsAggregator.Result result = DepartmentAnalyticsAggregator.aggregate(pool, members, NOW);
+
+        assertEquals(3, result.partitions());
+        assertEquals(heavyLoad.size() + 2, result.departments().get("Sales").toDto("Sales", 1).getTotalTasks());
+    }
+
+    @Test
+    void countsEachDepartmentSeparately() {
+        List<DepartmentAnalyticsAggregator.Member> members = List.of(
+                new DepartmentAnalyticsAggregator.Member("Sales", List.of(
+                        task(TaskStatus.DONE, NOW.minusDays(1), NOW.minusDays(2)),
+                        task(TaskStatus.DONE, NOW.minusDays(3), NOW.minusDays(2)))),
+                new DepartmentAnalyticsAggregator.Member("Sales", List.of(
+                        task(TaskStatus.TODO, NOW.minusDays(1), null),
+                        task(TaskStatus.IN_PROGRESS, NOW.plusDays(1), null))),
+                new DepartmentAnalyticsAggregator.Member("Engineering", List.of()),
+                new DepartmentAnalyticsAggregator.Member(null, List.of(task(TaskStatus.TODO, null, null))));
+
+        List<DepartmentAnalyticsDto> dtos =
+                DepartmentAnalyticsAggregator.toDtos(DepartmentAnalyticsAggregator.aggregate(members, NOW), 2);
+
+        // By name, users without a department last
+        assertEquals("Engineering", dtos.get(0).getDepartment());
+        assertEquals(0, dtos.get(0).getTotalTasks());
+        assertNull(dtos.get(2).getDepartment());
+
+        DepartmentAnalyticsDto sales = dtos.get(1);
+        assertEquals(2, sales.getUsers());
+        assertEquals(4, sales.getTotalTasks());
+        assertEquals(2, sales.getCompletedTasks());
+        assertEquals(1, sales.getOverdueTasks());
+        assertEquals(50.0, sales.getCompletionRate());
+        // Judged by completion time: one before its due date, one after
+        assertEquals(50.0, sales.getOnTimeRate());
+        assertEquals(1.0, sales.getThroughputPerWeek());
+        assertEquals(0.5, sales.getOverdueLoad());
+    }
+
+    private static DepartmentTaskRow task(TaskStatus status, LocalDateTime dueDate, LocalDateTime completedAt) {
+        return new DepartmentTaskRow(1L, status, dueDate, completedAt);
+    }
+}
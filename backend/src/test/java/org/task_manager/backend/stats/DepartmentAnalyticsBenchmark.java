@@ -0,0 +1,72 @@
+package org.task_manager.backend.stats;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fork/join department fold of {@link DepartmentAnalyticsAggregator} against the serial fold,
+ * on synthetic users of each count, with a pool of one worker per processor.
+ * <p>
+ * Run from the backend directory:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main DepartmentAnalyticsBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepartmentAnalyticsBenchmark {
+
+    @Param({"1000", "10000"})
+    private int users;
+
+    @Param({"20"})
+    private int tasksPerUser;
+
+    private LocalDateTime now;
+    private List<DepartmentAnalyticsAggregator.Member> members;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = LocalDateTime.now();
+        members = DepartmentAnalyticsSamples.sampleMembers(users, tasksPerUser, now);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, DepartmentAnalyticsAccumulator> serial() {
+        return DepartmentAnalyticsAggregator.aggregate(members, now);
+    }
+
+    @Benchmark
+    public DepartmentAnalyticsAggregator.Result forkJoin() {
+        return DepartmentAnalyticsAggregator.aggregate(pool, members, now);
+    }
+}
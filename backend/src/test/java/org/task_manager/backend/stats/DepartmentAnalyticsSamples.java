@@ -0,0 +1,44 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.DepartmentTaskRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic department members for the department analytics tests and benchmark
+ */
+final class DepartmentAnalyticsSamples {
+
+    private static final int DEPARTMENTS = 12;
+
+    private DepartmentAnalyticsSamples() {
+    }
+
+    /**
+     * Users spread over the departments, with tasks completed or due around now
+     */
+    static List<DepartmentAnalyticsAggregator.Member> sampleMembers(int userCount, int tasksPerUser, LocalDateTime now) {
+        // Fixed seed so runs are comparable
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        List<DepartmentAnalyticsAggregator.Member> members = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            // Some users have no department, and a few carry many times the usual load
+            String department = random.nextInt(20) == 0 ? null : "Department " + random.nextInt(DEPARTMENTS);
+            int taskCount = random.nextInt(50) == 0 ? tasksPerUser * 10 : random.nextInt(tasksPerUser * 2 + 1);
+            List<DepartmentTaskRow> tasks = new ArrayList<>(taskCount);
+            for (int j = 0; j < taskCount; j++) {
+                LocalDateTime completed = now.minusMinutes(random.nextInt(60 * 24 * 30));
+                LocalDateTime due = random.nextInt(5) == 0 ? null : completed.plusMinutes(random.nextInt(60 * 24 * 20) - 60 * 24 * 10);
+                TaskStatus status = statuses[random.nextInt(statuses.length)];
+                tasks.add(new DepartmentTaskRow((long) i + 1, status, due, status == TaskStatus.DONE ? completed : null));
+            }
+            members.add(new DepartmentAnalyticsAggregator.Member(department, tasks));
+        }
+        return members;
+    }
+}
@@ -0,0 +1,132 @@
+package org.task_manager.backend.stats;
+
+import org.junit.jupiter.api.Test;
+import org.task_manager.backend.dto.DailyActivityDto;
+import org.task_manager.backend.dto.PerformanceTrendDto;
+import org.task_manager.backend.dto.PriorityDistributionDto;
+import org.task_manager.backend.dto.RecentActivityDto;
+import org.task_manager.backend.dto.UserAnalyticsDetailDto;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.TaskListRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserAnalyticsAccumulatorTest {
+
+    // A Wednesday, so the 7 day chart runs from Thursday the 12th to today
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 18, 12, 0);
+
+    @Test
+    void countsTasksByStatusAndPriority() {
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(AnalyticsRange.DAYS_7, NOW);
+        accumulator.add(1L, "a", TaskStatus.TODO, Priority.HIGH, null, null, null);
+        accumulator.add(2L, "b", TaskStatus.IN_PROGRESS, null, null, null, null);
+        accumulator.add(3L, "c", TaskStatus.DONE, Priority.LOW, NOW, NOW, null);
+        accumulator.add(4L, "d", TaskStatus.DONE, Priority.LOW, NOW, NOW, null);
+
+        UserAnalyticsDetailDto analytics = write(accumulator);
+
+        assertEquals(4, analytics.getTotalTasksAssigned());
+        assertEquals(2, analytics.getCompletedTasks());
+        assertEquals(1, analytics.getInProgressTasks());
+        assertEquals(1, analytics.getPendingTasks());
+        assertEquals(50.0, analytics.getCompletionRate());
+        assertEquals(2L, analytics.getStats().getTasksCompleted());
+        // Tasks without a priority count as medium
+        assertEquals(List.of(1, 1, 2), analytics.getPriorityDistribution().stream()
+                .map(PriorityDistributionDto::getValue).toList());
+    }
+
+    @Test
+    void countsOpenTasksPastTheirDueDateAsOverdue() {
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(AnalyticsRange.DAYS_7, NOW);
+        accumulator.add(1L, "late", TaskStatus.TODO, Priority.HIGH, null, null, NOW.minusDays(1));
+        accumulator.add(2L, "soon", TaskStatus.IN_PROGRESS, Priority.HIGH, null, null, NOW.plusDays(1));
+        accumulator.add(3L, "later", TaskStatus.TODO, Priority.HIGH, null, null, NOW.plusDays(3));
+        accumulator.add(4L, "done late", TaskStatus.DONE, Priority.HIGH, NOW, NOW, NOW.minusDays(2));
+
+        UserAnalyticsDetailDto analytics = write(accumulator);
+
+        assertEquals(1, analytics.getOverdueTasks());
+        assertEquals(NOW.plusDays(1), accumulator.nextDueDate());
+        // 25% completed * 0.6 + 20 for work in progress + 15 for one overdue task
+        assertEquals(50, analytics.getStats().getProductivityScore());
+    }
+
+    @Test
+    void onTimeRateComparesTheCompletionTimeWithTheDueDate() {
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(AnalyticsRange.DAYS_7, NOW);
+        assertEquals(100.0, write(accumulator).getStats().getOnTimeRate());
+
+        // Edited after completion: the later update does not make the task late
+        accumulator.add(1L, "on time", TaskStatus.DONE, Priority.LOW, NOW, NOW.minusDays(2), NOW.minusDays(1));
+        // Completed late, whatever the last update
+        accumulator.add(2L, "late", TaskStatus.DONE, Priority.LOW, NOW.minusDays(2), NOW, NOW.minusDays(1));
+        accumulator.add(3L, "no due date", TaskStatus.DONE, Priority.LOW, NOW, NOW, null);
+
+        assertEquals(50.0, write(accumulator).getStats().getOnTimeRate());
+        assertNull(accumulator.nextDueDate());
+    }
+
+    @Test
+    void keepsTheTenMostRecentlyUpdatedTasksNewestFirst() {
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(AnalyticsRange.DAYS_7, NOW);
+        accumulator.add(0L, "never updated", TaskStatus.TODO, Priority.LOW, null, null, null);
+        for (long i = 1; i <= 12; i++) {
+            accumulator.add(i, "task " + i, TaskStatus.TODO, Priority.LOW, NOW.minusHours(i % 6), null, null);
+        }
+
+        List<Long> ids = write(accumulator).getRecentActivities().stream().map(RecentActivityDto::getId).toList();
+
+        // Equal update times keep the order the tasks were added in
+        assertEquals(List.of(6L, 12L, 1L, 7L, 2L, 8L, 3L, 9L, 4L, 10L), ids);
+    }
+
+    @Test
+    void placesRollupCountsInTheirChartBuckets() {
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(AnalyticsRange.DAYS_7, NOW);
+        accumulator.addDailyActivity(LocalDate.of(2025, 6, 11), 5, 5);
+        accumulator.addDailyActivity(LocalDate.of(2025, 6, 12), 1, 2);
+        accumulator.addDailyActivity(LocalDate.of(2025, 6, 18), 3, 4);
+        accumulator.addDailyActivity(LocalDate.of(2025, 6, 19), 5, 5);
+        accumulator.addMonthlyCompletions(2024, 12, 9, 9);
+        accumulator.addMonthlyCompletions(2025, 1, 2, 1);
+        accumulator.addMonthlyCompletions(2025, 6, 4, 3);
+
+        UserAnalyticsDetailDto analytics = write(accumulator);
+
+        List<DailyActivityDto> days = analytics.getDailyActivity();
+        assertEquals(7, days.size());
+        assertEquals(List.of(2, 0, 0, 0, 0, 0, 4), days.stream().map(DailyActivityDto::getCompleted).toList());
+        assertEquals(List.of(1, 0, 0, 0, 0, 0, 3), days.stream().map(DailyActivityDto::getStarted).toList());
+
+        List<PerformanceTrendDto> months = analytics.getPerformanceTrends();
+        assertEquals(List.of(2, 0, 0, 0, 0, 4), months.stream().map(PerformanceTrendDto::getCompleted).toList());
+        assertEquals(50.0, months.get(0).getQuality());
+        assertEquals(75.0, months.get(5).getQuality());
+    }
+
+    @Test
+    void matchesTheMultiPassImplementation() {
+        List<TaskListRow> tasks = UserAnalyticsReference.sampleTasks(5_000, NOW);
+        UserAnalyticsDetailDto multiPass = new UserAnalyticsDetailDto();
+        UserAnalyticsDetailDto singlePass = new UserAnalyticsDetailDto();
+
+        UserAnalyticsReference.multiPass(tasks, NOW, multiPass);
+        UserAnalyticsReference.singlePass(tasks, NOW, singlePass);
+
+        assertEquals(multiPass, singlePass);
+    }
+
+    private static UserAnalyticsDetailDto write(UserAnalyticsAccumulator accumulator) {
+        UserAnalyticsDetailDto analytics = new UserAnalyticsDetailDto();
+        accumulator.writeTo(analytics);
+        return analytics;
+    }
+}
@@ -0,0 +1,65 @@
+package org.task_manager.backend.stats;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.task_manager.backend.dto.UserAnalyticsDetailDto;
+import org.task_manager.backend.repository.projection.TaskListRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass user analytics ({@link UserAnalyticsAccumulator}) against the multi-pass
+ * implementation it replaced, on synthetic task lists of each size.
+ * <p>
+ * Run from the backend directory:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main UserAnalyticsBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserAnalyticsBenchmark {
+
+    @Param({"10000", "100000"})
+    private int tasks;
+
+    private LocalDateTime now;
+    private List<TaskListRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = LocalDateTime.now();
+        rows = UserAnalyticsReference.sampleTasks(tasks, now);
+    }
+
+    @Benchmark
+    public UserAnalyticsDetailDto multiPass() {
+        UserAnalyticsDetailDto analytics = new UserAnalyticsDetailDto();
+        UserAnalyticsReference.multiPass(rows, now, analytics);
+        return analytics;
+    }
+
+    @Benchmark
+    public UserAnalyticsDetailDto singlePass() {
+        UserAnalyticsDetailDto analytics = new UserAnalyticsDetailDto();
+        UserAnalyticsReference.singlePass(rows, now, analytics);
+        return analytics;
+    }
+}
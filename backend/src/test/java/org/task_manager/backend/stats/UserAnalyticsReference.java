@@ -0,0 +1,197 @@
+package org.task_manager.backend.stats;
+
+import org.task_manager.backend.dto.DailyActivityDto;
+import org.task_manager.backend.dto.PerformanceTrendDto;
+import org.task_manager.backend.dto.PriorityDistributionDto;
+import org.task_manager.backend.dto.RecentActivityDto;
+import org.task_manager.backend.dto.StatsDto;
+import org.task_manager.backend.dto.UserAnalyticsDetailDto;
+import org.task_manager.backend.model.Priority;
+import org.task_manager.backend.model.TaskStatus;
+import org.task_manager.backend.repository.projection.TaskListRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * The multi-pass stream implementation {@link UserAnalyticsAccumulator} replaced, kept as the
+ * reference the accumulator is tested and benchmarked against, with a generator of synthetic tasks.
+ * Both see every task, as the 7 day view did before the range was applied.
+ */
+final class UserAnalyticsReference {
+
+    private UserAnalyticsReference() {
+    }
+
+    /**
+     * The accumulator as the service drives it, with rollup rows derived from the same tasks
+     */
+    static void singlePass(List<TaskListRow> tasks, LocalDateTime now, UserAnalyticsDetailDto analytics) {
+        UserAnalyticsAccumulator accumulator = new UserAnalyticsAccumulator(AnalyticsRange.DAYS_7, now);
+        for (TaskListRow task : tasks) {
+            accumulator.add(task);
+            // Stand in for the daily stats rollup rows the service reads, counted as the old charts did
+            if (task.status() == TaskStatus.DONE && task.completedAt() != null) {
+                boolean onTime = task.dueDate() != null && task.completedAt().isBefore(task.dueDate());
+                accumulator.addDailyActivity(task.completedAt().toLocalDate(), 0, 1);
+                accumulator.addMonthlyCompletions(task.completedAt().getYear(), task.completedAt().getMonthValue(),
+                        1, onTime ? 1 : 0);
+            } else if (task.status() == TaskStatus.IN_PROGRESS && task.creationDate() != null) {
+                accumulator.addDailyActivity(task.creationDate().toLocalDate(), 1, 0);
+            }
+        }
+        accumulator.writeTo(analytics);
+    }
+
+    /**
+     * Tasks spread over two years around now, with a mix of statuses, priorities and due dates
+     */
+    static List<TaskListRow> sampleTasks(int count, LocalDateTime now) {
+        // Fixed seed so runs are comparable
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        Priority[] priorities = Priority.values();
+        List<TaskListRow> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime created = now.minusMinutes(random.nextInt(60 * 24 * 365 * 2));
+            LocalDateTime updated = random.nextInt(10) == 0 ? null : created.plusMinutes(random.nextInt(60 * 24 * 30));
+            LocalDateTime due = random.nextInt(5) == 0 ? null : created.plusMinutes(random.nextInt(60 * 24 * 20));
+            Priority priority = random.nextInt(20) == 0 ? null : priorities[random.nextInt(priorities.length)];
+            TaskStatus status = statuses[random.nextInt(statuses.length)];
+            // Completed at the last update, as V6 backfilled completed_at, which the multi-pass code read as updatedAt
+            LocalDateTime completed = status == TaskStatus.DONE ? updated : null;
+            tasks.add(new TaskListRow((long) i + 1, "Task " + i, null, status,
+                    priority, due, created, updated, completed, 0L, 1L, "sample"));
+        }
+        return tasks;
+    }
+
+    /**
+     * The implementation before the accumulator: one stream pass per figure
+     */
+    static void multiPass(List<TaskListRow> tasks, LocalDateTime now, UserAnalyticsDetailDto analytics) {
+        analytics.setStats(buildStatsDto(tasks, now));
+        analytics.setDailyActivity(buildDailyActivity(tasks, now));
+        analytics.setPriorityDistribution(buildPriorityDistribution(tasks));
+        analytics.setPerformanceTrends(buildPerformanceTrends(tasks, now));
+        analytics.setRecentActivities(buildRecentActivities(tasks));
+        analytics.setCompletionRate(getCompletionRate(tasks));
+        analytics.setTotalTasksAssigned(tasks.size());
+        analytics.setCompletedTasks((int) tasks.stream().filter(t -> t.status() == TaskStatus.DONE).count());
+        analytics.setInProgressTasks((int) tasks.stream().filter(t -> t.status() == TaskStatus.IN_PROGRESS).count());
+        analytics.setPendingTasks((int) tasks.stream().filter(t -> t.status() == TaskStatus.TODO).count());
+        analytics.setOverdueTasks(getOverdueTasks(tasks, now).size());
+    }
+
+    private static StatsDto buildStatsDto(List<TaskListRow> tasks, LocalDateTime now) {
+        long completed = tasks.stream().filter(t -> t.status() == TaskStatus.DONE).count();
+        long inProgress = tasks.stream().filter(t -> t.status() == TaskStatus.IN_PROGRESS).count();
+        long pending = tasks.stream().filter(t -> t.status() == TaskStatus.TODO).count();
+        double completionRate = tasks.isEmpty() ? 0.0 : (completed * 100.0 / tasks.size());
+        long completedOnTime = tasks.stream()
+                .filter(t -> t.status() == TaskStatus.DONE && t.dueDate() != null)
+                .filter(t -> t.updatedAt() != null && t.updatedAt().isBefore(t.dueDate()))
+                .count();
+        long completedWithDueDate = tasks.stream()
+                .filter(t -> t.status() == TaskStatus.DONE && t.dueDate() != null)
+                .count();
+        double onTimeRate = completedWithDueDate > 0 ? (completedOnTime * 100.0 / completedWithDueDate) : 100.0;
+        return new StatsDto(completed, inProgress, pending, completionRate, onTimeRate,
+                calculateProductivityScore(tasks, now), 0.0);
+    }
+
+    private static List<DailyActivityDto> buildDailyActivity(List<TaskListRow> tasks, LocalDateTime now) {
+        List<DailyActivityDto> dailyActivity = new ArrayList<>();
+        LocalDate today = now.toLocalDate();
+        for (int i = 6; i >= 0; i--) {
+            LocalDate date = today.minusDays(i);
+            int completed = (int) tasks.stream()
+                    .filter(t -> t.status() == TaskStatus.DONE)
+                    .filter(t -> t.updatedAt() != null && t.updatedAt().toLocalDate().equals(date))
+                    .count();
+            int started = (int) tasks.stream()
+                    .filter(t -> t.status() == TaskStatus.IN_PROGRESS)
+                    .filter(t -> t.creationDate() != null && t.creationDate().toLocalDate().equals(date))
+                    .count();
+            dailyActivity.add(new DailyActivityDto(date.format(DateTimeFormatter.ofPattern("EEE")), completed, started));
+        }
+        return dailyActivity;
+    }
+
+    private static List<PriorityDistributionDto> buildPriorityDistribution(List<TaskListRow> tasks) {
+        Map<Priority, Long> priorityCounts = tasks.stream()
+                .collect(Collectors.groupingBy(t -> t.priority() != null ? t.priority() : Priority.MEDIUM,
+                        Collectors.counting()));
+        List<PriorityDistributionDto> distribution = new ArrayList<>();
+        distribution.add(new PriorityDistributionDto("High", priorityCounts.getOrDefault(Priority.HIGH, 0L).intValue(), "#ef4444"));
+        distribution.add(new PriorityDistributionDto("Medium", priorityCounts.getOrDefault(Priority.MEDIUM, 0L).intValue(), "#f59e0b"));
+        distribution.add(new PriorityDistributionDto("Low", priorityCounts.getOrDefault(Priority.LOW, 0L).intValue(), "#10b981"));
+        return distribution;
+    }
+
+    private static List<PerformanceTrendDto> buildPerformanceTrends(List<TaskListRow> tasks, LocalDateTime now) {
+        List<PerformanceTrendDto> trends = new ArrayList<>();
+        LocalDate today = now.toLocalDate();
+        for (int i = 5; i >= 0; i--) {
+            LocalDate monthDate = today.minusMonths(i);
+            int completedInMonth = (int) tasks.stream()
+                    .filter(t -> t.status() == TaskStatus.DONE)
+                    .filter(t -> t.updatedAt() != null &&
+                            t.updatedAt().getYear() == monthDate.getYear() &&
+                            t.updatedAt().getMonthValue() == monthDate.getMonthValue())
+                    .count();
+            long completedOnTimeInMonth = tasks.stream()
+                    .filter(t -> t.status() == TaskStatus.DONE && t.dueDate() != null)
+                    .filter(t -> t.updatedAt() != null &&
+                            t.updatedAt().getYear() == monthDate.getYear() &&
+                            t.updatedAt().getMonthValue() == monthDate.getMonthValue())
+                    .filter(t -> t.updatedAt().isBefore(t.dueDate()))
+                    .count();
+            double quality = completedInMonth > 0 ? (completedOnTimeInMonth * 100.0 / completedInMonth) : 0.0;
+            trends.add(new PerformanceTrendDto(monthDate.format(DateTimeFormatter.ofPattern("MMM")), completedInMonth, quality));
+        }
+        return trends;
+    }
+
+    private static List<RecentActivityDto> buildRecentActivities(List<TaskListRow> tasks) {
+        return tasks.stream()
+                .sorted(Comparator.comparing(TaskListRow::updatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(10)
+                .map(t -> new RecentActivityDto(t.id(), t.title(), t.status().toString(), t.updatedAt()))
+                .collect(Collectors.toList());
+    }
+
+    private static Integer calculateProductivityScore(List<TaskListRow> tasks, LocalDateTime now) {
+        if (tasks.isEmpty()) {
+            return 50;
+        }
+        double completionRate = getCompletionRate(tasks);
+        int overdueTasks = getOverdueTasks(tasks, now).size();
+        int inProgressTasks = (int) tasks.stream().filter(t -> t.status() == TaskStatus.IN_PROGRESS).count();
+        double score = (completionRate * 0.6) +
+                (inProgressTasks > 0 ? 20 : 0) +
+                (overdueTasks == 0 ? 20 : Math.max(0, 20 - (overdueTasks * 5)));
+        return Math.min(100, (int) score);
+    }
+
+    private static double getCompletionRate(List<TaskListRow> tasks) {
+        if (tasks.isEmpty()) {
+            return 0.0;
+        }
+        long completed = tasks.stream().filter(t -> t.status() == TaskStatus.DONE).count();
+        return (completed * 100.0) / tasks.size();
+    }
+
+    private static List<TaskListRow> getOverdueTasks(List<TaskListRow> tasks, LocalDateTime now) {
+        return tasks.stream()
+                .filter(t -> t.dueDate() != null && t.dueDate().isBefore(now) && t.status() != TaskStatus.DONE)
+                .collect(Collectors.toList());
+    }
+}
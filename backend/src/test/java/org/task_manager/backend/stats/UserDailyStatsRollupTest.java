@@ -0,0 +1,106 @@
+package org.task_manager.backend.stats;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.task_manager.backend.repository.UserRepository;
+import org.task_manager.backend.service.AdminService;
+import org.task_manager.backend.service.TaskService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.task_manager.backend.TestFixtures.createUser;
+import static org.task_manager.backend.TestFixtures.task;
+
+/**
+ * Rows kept up to date from task change deltas against the same rows recounted from the tasks
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserDailyStatsRollupTest {
+
+    private static final String ROWS = "SELECT priority, created, started, completed, completed_on_time " +
+            "FROM user_daily_stats WHERE user_id = ? AND stat_date = ? " +
+            "AND (created <> 0 OR started <> 0 OR completed <> 0 OR completed_on_time <> 0) ORDER BY priority";
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDailyStatsRollup userDailyStatsRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private LocalDate today;
+
+    @BeforeAll
+    void changeTasks() {
+        userId = createUser(adminService, userRepository, "rollup");
+        today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Open, stays open
+        taskService.createTask(task("Stays open", "TODO", "HIGH", now.plusDays(1), userId));
+
+        // Started, then completed before its due date
+        Long onTime = taskService.createTask(task("Finished on time", "TODO", "LOW", now.plusDays(2), userId)).getId();
+        taskService.updateTask(onTime, task("Finished on time", "IN_PROGRESS", "LOW", now.plusDays(2), userId), null);
+        taskService.updateTask(onTime, task("Finished on time", "DONE", "LOW", now.plusDays(2), userId), null);
+
+        // Completed late, then reopened: the completion is taken back
+        Long reopened = taskService.createTask(task("Reopened later", "TODO", "LOW", now.minusDays(1), userId)).getId();
+        taskService.updateTask(reopened, task("Reopened later", "DONE", "LOW", now.minusDays(1), userId), null);
+        taskService.updateTask(reopened, task("Reopened later", "TODO", "LOW", now.minusDays(1), userId), null);
+
+        // Created and deleted: nothing left
+        Long deleted = taskService.createTask(task("Deleted again", "TODO", "MEDIUM", now.plusDays(1), userId)).getId();
+        taskService.deleteTask(deleted);
+
+        // Created as high, lowered: counted under its current priority only
+        Long lowered = taskService.createTask(task("Lowered task", "TODO", "HIGH", now.plusDays(3), userId)).getId();
+        taskService.updateTask(lowered, task("Lowered task", "TODO", "LOW", now.plusDays(3), userId), null);
+    }
+
+    @Test
+    void deltasCountEachChangeOnce() {
+        List<Map<String, Object>> rows = rows();
+
+        assertEquals(2, rows.size());
+        assertEquals(List.of("HIGH", 1, 0, 0, 0), values(rows.get(0)));
+        assertEquals(List.of("LOW", 3, 1, 1, 1), values(rows.get(1)));
+    }
+
+    @Test
+    void deltasMatchARecountFromTheTasks() {
+        List<Map<String, Object>> fromDeltas = rows();
+
+        userDailyStatsRollup.reconcile(today, today, userId);
+
+        assertEquals(fromDeltas, rows());
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList(ROWS, userId, today);
+    }
+
+    private static List<Object> values(Map<String, Object> row) {
+        return List.of(row.get("priority"), ((Number) row.get("created")).intValue(),
+                ((Number) row.get("started")).intValue(), ((Number) row.get("completed")).intValue(),
+                ((Number) row.get("completed_on_time")).intValue());
+    }
+}
@@ -0,0 +1,38 @@
+package org.task_manager.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AcceptEncodingUtilTest {
+
+    @Test
+    void gzipListedWithAPositiveWeightIsAccepted() {
+        assertTrue(AcceptEncodingUtil.acceptsGzip("gzip"));
+        assertTrue(AcceptEncodingUtil.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(AcceptEncodingUtil.acceptsGzip("br;q=1.0, x-gzip;q=0.1"));
+    }
+
+    @Test
+    void zeroWeightRefusesGzip() {
+        assertFalse(AcceptEncodingUtil.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncodingUtil.acceptsGzip("gzip; q=0.000, deflate"));
+        assertFalse(AcceptEncodingUtil.acceptsGzip("*, gzip;q=0"));
+    }
+
+    @Test
+    void wildcardCoversAnUnlistedGzip() {
+        assertTrue(AcceptEncodingUtil.acceptsGzip("*"));
+        assertTrue(AcceptEncodingUtil.acceptsGzip("br, *;q=0.2"));
+        assertFalse(AcceptEncodingUtil.acceptsGzip("br, *;q=0"));
+    }
+
+    @Test
+    void missingOrUnrelatedCodingsGetIdentity() {
+        assertFalse(AcceptEncodingUtil.acceptsGzip(null));
+        assertFalse(AcceptEncodingUtil.acceptsGzip(""));
+        assertFalse(AcceptEncodingUtil.acceptsGzip("identity, br"));
+        assertFalse(AcceptEncodingUtil.acceptsGzip("gzipped"));
+    }
+}
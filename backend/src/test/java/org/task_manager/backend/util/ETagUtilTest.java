@@ -0,0 +1,81 @@
+package org.task_manager.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.task_manager.backend.repository.projection.TaskSetVersion;
+import org.task_manager.backend.repository.projection.TaskVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETagUtilTest {
+
+    private static final LocalDateTime RENAMED = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+    @Test
+    void taskTagNamesTheVersionAndRepresentation() {
+        long renamed = RENAMED.toInstant(ZoneOffset.UTC).toEpochMilli();
+        assertEquals("\"task-5-3-" + renamed + "-json\"", ETagUtil.forTask(5L, version(3L), MediaType.APPLICATION_JSON));
+        assertEquals("\"task-5-3-" + renamed + "-cbor\"", ETagUtil.forTask(5L, version(3L), MediaType.APPLICATION_CBOR));
+        assertEquals("\"task-5-3-0-json\"", ETagUtil.forTask(5L, new TaskVersion(3L, null), MediaType.APPLICATION_JSON));
+        assertNotEquals(ETagUtil.forTask(5L, version(3L), MediaType.APPLICATION_JSON), ETagUtil.forTask(5L, version(4L), MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void taskTagChangesWhenTheAssigneeChanges() {
+        assertNotEquals(ETagUtil.forTask(5L, version(3L), MediaType.APPLICATION_JSON),
+                ETagUtil.forTask(5L, new TaskVersion(3L, RENAMED.plusSeconds(1)), MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void taskSetTagIsWeakAndChangesWithTheSet() {
+        LocalDateTime updated = LocalDateTime.of(2025, 5, 1, 8, 0);
+        String tag = ETagUtil.forTaskSet(new TaskSetVersion(3L, 7L, updated, RENAMED));
+
+        assertTrue(tag.startsWith("W/\""));
+        assertEquals(tag, ETagUtil.forTaskSet(new TaskSetVersion(3L, 7L, updated, RENAMED)));
+        assertNotEquals(tag, ETagUtil.forTaskSet(new TaskSetVersion(2L, 7L, updated, RENAMED)));
+        assertNotEquals(tag, ETagUtil.forTaskSet(new TaskSetVersion(3L, 8L, updated, RENAMED)));
+        assertNotEquals(tag, ETagUtil.forTaskSet(new TaskSetVersion(3L, 7L, updated.plusSeconds(1), RENAMED)));
+        assertNotEquals(tag, ETagUtil.forTaskSet(new TaskSetVersion(3L, 7L, updated, RENAMED.plusSeconds(1))));
+    }
+
+    @Test
+    void emptyTaskSetHasATag() {
+        assertEquals("W/\"tasks-0-0-0-0\"", ETagUtil.forTaskSet(new TaskSetVersion(0L, null, null, null)));
+    }
+
+    @Test
+    void picksTheRepresentationContentNegotiationWill() {
+        assertEquals(MediaType.APPLICATION_JSON, ETagUtil.taskRepresentation(null));
+        assertEquals(MediaType.APPLICATION_JSON, ETagUtil.taskRepresentation("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, ETagUtil.taskRepresentation("not a media type"));
+        assertEquals(MediaType.APPLICATION_CBOR, ETagUtil.taskRepresentation("application/cbor"));
+        assertEquals(ETagUtil.APPLICATION_SMILE, ETagUtil.taskRepresentation("application/x-jackson-smile, */*;q=0.1"));
+        assertEquals(MediaType.APPLICATION_CBOR, ETagUtil.taskRepresentation("application/json;q=0.5, application/cbor"));
+    }
+
+    @Test
+    void ifMatchUsesStrongComparison() {
+        String json = ETagUtil.forTask(5L, version(3L), MediaType.APPLICATION_JSON);
+        String smile = ETagUtil.forTask(5L, version(3L), ETagUtil.APPLICATION_SMILE);
+
+        assertTrue(ETagUtil.matchesIfMatch(json, 5L, version(3L)));
+        assertTrue(ETagUtil.matchesIfMatch(smile, 5L, version(3L)));
+        assertTrue(ETagUtil.matchesIfMatch("\"other\", " + json, 5L, version(3L)));
+        assertTrue(ETagUtil.matchesIfMatch("*", 5L, version(3L)));
+        assertFalse(ETagUtil.matchesIfMatch(json, 5L, version(4L)));
+        assertFalse(ETagUtil.matchesIfMatch(json, 6L, version(3L)));
+        assertFalse(ETagUtil.matchesIfMatch(json, 5L, new TaskVersion(3L, RENAMED.plusSeconds(1))));
+        assertFalse(ETagUtil.matchesIfMatch("W/" + json, 5L, version(3L)));
+    }
+
+    private static TaskVersion version(long version) {
+        return new TaskVersion(version, RENAMED);
+    }
+}
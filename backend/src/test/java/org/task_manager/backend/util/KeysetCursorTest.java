@@ -0,0 +1,56 @@
+package org.task_manager.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = new KeysetCursor("dueDate", false, LocalDateTime.of(2025, 3, 9, 17, 30, 5, 120_000_000), 42L, true);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void keepsAMissingSortValue() {
+        KeysetCursor cursor = new KeysetCursor("id", true, null, 7L, false);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String encoded = new KeysetCursor("creationDate", true, LocalDateTime.of(2025, 1, 1, 0, 0), 1L, false).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void backwardCursorsReadAgainstTheListingDirection() {
+        assertTrue(new KeysetCursor("id", true, null, 1L, false).readAscending());
+        assertFalse(new KeysetCursor("id", true, null, 1L, true).readAscending());
+        assertFalse(new KeysetCursor("id", false, null, 1L, false).readAscending());
+        assertTrue(new KeysetCursor("id", false, null, 1L, true).readAscending());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encode("id|asc||1")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encode("id|asc||one|next")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encode("dueDate|asc|yesterday|1|next")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
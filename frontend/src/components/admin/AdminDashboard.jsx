@@ -5,7 +5,7 @@ import TaskStatusChart from './TaskStatusChart';
 import UserActivityChart from './UserActivityChart';
 import PriorityDistributionChart from './PriorityDistributionChart';
 
-const AdminDashboard = ({ stats = {}, tasks = [] }) => {
+const AdminDashboard = ({ stats = {} }) => {
   // Default values if stats are not provided
   const safeStats = {
     totalUsers: stats?.totalUsers || 0,
@@ -60,7 +60,7 @@ const AdminDashboard = ({ stats = {}, tasks = [] }) => {
       </div>
 
       <div className="charts-grid">
-        <PriorityDistributionChart tasks={tasks} />
+        <PriorityDistributionChart priorityCounts={stats?.taskPriorityCounts} />
         
         {/* Quick Stats */}
         <div className="chart-container">
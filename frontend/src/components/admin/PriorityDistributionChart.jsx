@@ -1,31 +1,19 @@
 import React, { useMemo } from 'react';
 import { BarChart, Bar, XAxis, YAxis, CartesianGrid, Tooltip, Cell, ResponsiveContainer } from 'recharts';
 
-const PriorityDistributionChart = ({ tasks = [] }) => {
+const PriorityDistributionChart = ({ priorityCounts = {} }) => {
   const priorityCount = useMemo(() => {
-    // Backend sends priority as uppercase: "HIGH", "MEDIUM", "LOW"
-    const counts = { HIGH: 0, MEDIUM: 0, LOW: 0 };
-    if (tasks && Array.isArray(tasks)) {
-      tasks.forEach(task => {
-        // Defensive check: ensure priority exists and is a valid string
-        if (task.priority && typeof task.priority === 'string') {
-          // Normalize to uppercase to match backend enum values
-          const normalizedPriority = task.priority.toUpperCase();
-          if (counts.hasOwnProperty(normalizedPriority)) {
-            counts[normalizedPriority]++;
-          }
-        }
-      });
-    }
+    // Counts over all tasks from the dashboard stats, keyed by the backend enum values "HIGH", "MEDIUM", "LOW"
+    const counts = priorityCounts || {};
     return [
-      { name: 'High', value: counts.HIGH, color: '#ef4444' },
-      { name: 'Medium', value: counts.MEDIUM, color: '#f59e0b' },
-      { name: 'Low', value: counts.LOW, color: '#10b981' }
+      { name: 'High', value: Number(counts.HIGH) || 0, color: '#ef4444' },
+      { name: 'Medium', value: Number(counts.MEDIUM) || 0, color: '#f59e0b' },
+      { name: 'Low', value: Number(counts.LOW) || 0, color: '#10b981' }
     ];
-  }, [tasks]);
+  }, [priorityCounts]);
 
   // Show empty state if no data
-  if (!tasks || tasks.length === 0) {
+  if (priorityCount.every(entry => entry.value === 0)) {
     return (
       <div className="chart-container">
         <h3 className="chart-title">Task Priority Distribution</h3>
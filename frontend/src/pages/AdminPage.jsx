@@ -16,7 +16,6 @@ const AdminPage = () => {
   const navigate = useNavigate();
   const [activeTab, setActiveTab] = useState('dashboard');
   const [users, setUsers] = useState([]);
-  const [tasks, setTasks] = useState([]);
   const [stats, setStats] = useState(null);
   const [selectedUser, setSelectedUser] = useState(null);
   const [loaded, setLoaded] = useState(false);
@@ -31,26 +30,21 @@ const AdminPage = () => {
   const loadData = async () => {
     try {
       console.log('📥 Fetching admin data from backend...');
-      const [usersResponse, tasksResponse, statsResponse] = await Promise.all([
+      const [usersResponse, statsResponse] = await Promise.all([
         fetchData('/admin/users'),
-        fetchData('/admin/tasks'),
         fetchData('/admin/stats')
       ]);
       
       console.log('✅ Users Response:', usersResponse);
-      console.log('✅ Tasks Response:', tasksResponse);
       console.log('✅ Stats Response:', statsResponse);
       
       const users = usersResponse?.data || [];
-      const tasks = tasksResponse?.data || [];
       const stats = statsResponse?.data || {};
       
       console.log('📊 Processed Users:', users);
-      console.log('📊 Processed Tasks:', tasks);
       console.log('📊 Processed Stats:', stats);
       
       setUsers(users);
-      setTasks(tasks);
       setStats(stats);
       setLoaded(true);
     } catch (error) {
@@ -135,7 +129,7 @@ const AdminPage = () => {
           </div>
         )}
         
-        {activeTab === 'dashboard' && <AdminDashboard stats={stats} tasks={tasks} />}
+        {activeTab === 'dashboard' && <AdminDashboard stats={stats} />}
         {activeTab === 'users' && (
           <UserManagement 
             users={users} 